@@ -1,14 +1,50 @@
 package com.example.scarecrowbot;
 
+import com.example.scarecrowbot.api.ScarecrowService;
 import com.example.scarecrowbot.command.ScarecrowCommand;
-import com.example.scarecrowbot.command.ScarecrowTabCompleter;
 import com.example.scarecrowbot.listener.ChatListener;
+import com.example.scarecrowbot.listener.ChunkListener;
 import com.example.scarecrowbot.listener.DamageListener;
+import com.example.scarecrowbot.listener.PositionListener;
+import com.example.scarecrowbot.listener.PrivateDummyListener;
+import com.example.scarecrowbot.listener.VisibilityListener;
+import com.example.scarecrowbot.manager.ChatPipeline;
+import com.example.scarecrowbot.manager.ConversationManager;
 import com.example.scarecrowbot.manager.CooldownManager;
+import com.example.scarecrowbot.manager.DegradationManager;
+import com.example.scarecrowbot.manager.EventLog;
+import com.example.scarecrowbot.manager.HpRegenEngine;
+import com.example.scarecrowbot.manager.JobScheduler;
+import com.example.scarecrowbot.manager.LeaderboardManager;
+import com.example.scarecrowbot.manager.PositionSnapshotManager;
+import com.example.scarecrowbot.manager.PrivateDummyManager;
+import com.example.scarecrowbot.manager.ReloadManager;
 import com.example.scarecrowbot.manager.ScarecrowManager;
+import com.example.scarecrowbot.manager.ScarecrowServiceImpl;
+import com.example.scarecrowbot.manager.SyncManager;
+import com.example.scarecrowbot.manager.TickBenchmark;
+import com.example.scarecrowbot.manager.VisibilityManager;
+import com.example.scarecrowbot.reply.KeywordReplyProvider;
+import com.example.scarecrowbot.reply.RandomReplyProvider;
+import com.example.scarecrowbot.reply.ReplyService;
+import com.example.scarecrowbot.reply.StubReplyProvider;
+import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
 import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
 /**
  * Main plugin class for ScarecrowBot
  */
@@ -20,9 +56,60 @@ public final class ScarecrowBotPlugin extends JavaPlugin {
     @Getter
     private ScarecrowManager scarecrowManager;
 
+    @Getter
+    private JobScheduler jobScheduler;
+
+    @Getter
+    private EventLog eventLog;
+
+    @Getter
+    private LeaderboardManager leaderboardManager;
+
+    @Getter
+    private HpRegenEngine hpRegenEngine;
+
+    @Getter
+    private PrivateDummyManager privateDummyManager;
+
+    @Getter
+    private SyncManager syncManager;
+
+    @Getter
+    private ReloadManager reloadManager;
+
+    @Getter
+    private DegradationManager degradationManager;
+
+    @Getter
+    private TickBenchmark tickBenchmark;
+
+    /**
+     * Current settings; /scarecrow reload replaces the whole object, so a reader holding it sees either
+     * the old or the new settings, never a mix
+     */
+    private volatile FileConfiguration config;
+
+    private final AtomicLong configSaveSequence = new AtomicLong();
+    private long writtenConfigSequence;
+
     @Getter
     private CooldownManager cooldownManager;
 
+    @Getter
+    private VisibilityManager visibilityManager;
+
+    @Getter
+    private PositionSnapshotManager positionSnapshotManager;
+
+    @Getter
+    private ChatPipeline chatPipeline;
+
+    @Getter
+    private ReplyService replyService;
+
+    @Getter
+    private ConversationManager conversationManager;
+
     @Override
     public void onEnable() {
         instance = this;
@@ -30,36 +117,226 @@ public final class ScarecrowBotPlugin extends JavaPlugin {
         // Save default config
         this.saveDefaultConfig();
 
+        // Start the event log first so loading and startup events are recorded
+        this.eventLog = new EventLog();
+        this.eventLog.start();
+
         // Initialize managers
         this.cooldownManager = new CooldownManager();
+        this.jobScheduler = new JobScheduler();
+        this.degradationManager = new DegradationManager();
         this.scarecrowManager = new ScarecrowManager();
+        this.syncManager = new SyncManager();
+        this.hpRegenEngine = new HpRegenEngine();
+        this.leaderboardManager = new LeaderboardManager();
+        this.privateDummyManager = new PrivateDummyManager();
+        this.visibilityManager = new VisibilityManager();
+        this.positionSnapshotManager = new PositionSnapshotManager();
+        this.chatPipeline = new ChatPipeline();
+        this.conversationManager = new ConversationManager();
+        this.replyService = new ReplyService();
+        this.reloadManager = new ReloadManager();
+        this.tickBenchmark = new TickBenchmark();
+
+        // Register reply providers (asked in priority order)
+        this.replyService.register(new KeywordReplyProvider());
+        this.replyService.register(new RandomReplyProvider());
+        this.replyService.register(new StubReplyProvider());
+        this.replyService.reload();
 
         // Load scarecrow data
         this.scarecrowManager.loadFromFile();
 
+        // Replicate HP and global cooldowns to other servers
+        this.syncManager.start();
+
+        // Load damage leaderboards
+        this.leaderboardManager.start();
+
+        // Expose the read-only API to other plugins
+        this.getServer().getServicesManager().register(ScarecrowService.class,
+                new ScarecrowServiceImpl(this.scarecrowManager), this, ServicePriority.Normal);
+
         // Register listeners
         this.getServer().getPluginManager().registerEvents(new DamageListener(), this);
-        this.getServer().getPluginManager().registerEvents(new ChatListener(), this);
+        final ChatListener chatListener = new ChatListener();
+        this.getServer().getPluginManager().registerEvents(chatListener, this);
+        this.getServer().getPluginManager().registerEvents(new ChunkListener(), this);
+        this.getServer().getPluginManager().registerEvents(new VisibilityListener(), this);
+        this.getServer().getPluginManager().registerEvents(new PrivateDummyListener(), this);
+        this.getServer().getPluginManager().registerEvents(new PositionListener(), this);
 
-        // Register command
+        // Register command (Brigadier, re-registered by Paper on every command tree rebuild)
         final ScarecrowCommand scarecrowCommand = new ScarecrowCommand();
-        this.getCommand("scarecrow").setExecutor(scarecrowCommand);
-        this.getCommand("scarecrow").setTabCompleter(new ScarecrowTabCompleter());
+        this.getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS, event ->
+                event.registrar().register(scarecrowCommand.build(), "Main scarecrow command", List.of("sc", "bot")));
+
+        // Run bulk work in time slices from here on
+        this.jobScheduler.start();
 
         // Start position lock task
         this.scarecrowManager.startPositionLockTask();
 
+        // Start HP regeneration/decay
+        this.hpRegenEngine.start();
+
+        // Prepare the private training dummy pool
+        this.privateDummyManager.start();
+
+        // Start per-player visibility culling
+        this.visibilityManager.start();
+
+        // Publish player positions for proximity chat
+        this.positionSnapshotManager.start();
+
+        // Shed cosmetic work when ticks run long
+        this.degradationManager.start();
+
+        // Start the chat worker that runs the reply rules
+        this.chatPipeline.start(chatListener::processChat);
+
         this.getLogger().info("ScarecrowBot has been enabled!");
     }
 
     @Override
     public void onDisable() {
+        this.getServer().getServicesManager().unregisterAll(this);
+
+        if (this.chatPipeline != null) {
+            this.chatPipeline.stop();
+        }
+
+        if (this.replyService != null) {
+            this.replyService.shutdown();
+        }
+
+        if (this.degradationManager != null) {
+            this.degradationManager.stop();
+        }
+
+        if (this.tickBenchmark != null) {
+            this.tickBenchmark.stop();
+        }
+
+        if (this.hpRegenEngine != null) {
+            this.hpRegenEngine.stop();
+        }
+
+        if (this.syncManager != null) {
+            this.syncManager.stop();
+        }
+
+        if (this.positionSnapshotManager != null) {
+            this.positionSnapshotManager.stop();
+        }
+
+        if (this.visibilityManager != null) {
+            this.visibilityManager.stop();
+        }
+
+        if (this.privateDummyManager != null) {
+            this.privateDummyManager.stop();
+        }
+
+        // Finish pending bulk work (including saves) before the final save
+        if (this.jobScheduler != null) {
+            this.jobScheduler.stop();
+        }
+
         // Save scarecrow data
         if (this.scarecrowManager != null) {
             this.scarecrowManager.saveToFile();
             this.scarecrowManager.stopPositionLockTask();
+            this.scarecrowManager.clearDamageNumbers();
+        }
+
+        if (this.leaderboardManager != null) {
+            this.leaderboardManager.stop();
+        }
+
+        // Write out queued events last
+        if (this.eventLog != null) {
+            this.eventLog.stop();
         }
 
         this.getLogger().info("ScarecrowBot has been disabled!");
     }
+
+    @Override
+    public FileConfiguration getConfig() {
+        FileConfiguration current = this.config;
+        if (current == null) {
+            current = super.getConfig();
+            this.config = current;
+        }
+        return current;
+    }
+
+    @Override
+    public void reloadConfig() {
+        super.reloadConfig();
+        this.config = super.getConfig();
+    }
+
+    /**
+     * Replace the current settings (used by /scarecrow reload)
+     *
+     * @param config New settings
+     */
+    public void swapConfig(final FileConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Change settings copy-on-write: the change is made on a copy, which then replaces the current
+     * settings and is saved, so readers never see a half-applied change
+     *
+     * @param change Edit to make on the copy
+     */
+    public synchronized void updateConfig(final Consumer<FileConfiguration> change) {
+        final FileConfiguration current = this.getConfig();
+        final YamlConfiguration copy = new YamlConfiguration();
+        try {
+            copy.loadFromString(current.saveToString());
+        } catch (final InvalidConfigurationException exception) {
+            throw new IllegalStateException("Failed to copy the current config", exception);
+        }
+        if (current.getDefaults() != null) {
+            copy.setDefaults(current.getDefaults());
+        }
+
+        change.accept(copy);
+        this.swapConfig(copy);
+        this.saveConfigAsync();
+    }
+
+    /**
+     * Save the config without blocking the calling thread.
+     * The config is serialized right away; the file is written on an async thread, and an older write
+     * never replaces a newer one.
+     */
+    public void saveConfigAsync() {
+        final String data = this.getConfig().saveToString();
+        final long sequence = this.configSaveSequence.incrementAndGet();
+
+        if (!this.isEnabled()) {
+            this.writeConfig(data, sequence);
+            return;
+        }
+
+        Bukkit.getAsyncScheduler().runNow(this, task -> this.writeConfig(data, sequence));
+    }
+
+    private synchronized void writeConfig(final String data, final long sequence) {
+        if (sequence <= this.writtenConfigSequence) {
+            return;
+        }
+
+        try {
+            Files.writeString(new File(this.getDataFolder(), "config.yml").toPath(), data, StandardCharsets.UTF_8);
+            this.writtenConfigSequence = sequence;
+        } catch (final IOException exception) {
+            this.getLogger().severe("Failed to save config: " + exception.getMessage());
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.scarecrowbot.api;
+
+import org.bukkit.Location;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only access to scarecrows for other plugins, registered in Bukkit's ServicesManager:
+ * <pre>{@code
+ * ScarecrowService service = Bukkit.getServicesManager().load(ScarecrowService.class);
+ * }</pre>
+ * All methods return immutable snapshots, never lock and may be called from any thread.
+ * To react to changes, listen to the events in {@code com.example.scarecrowbot.event}.
+ */
+public interface ScarecrowService {
+
+    /**
+     * Get all scarecrows
+     *
+     * @return Snapshots of all scarecrows
+     */
+    List<ScarecrowSnapshot> getScarecrows();
+
+    /**
+     * Get a scarecrow by the UUID of its entity
+     *
+     * @param uuid Entity UUID
+     * @return Snapshot, or null if there is no such scarecrow
+     */
+    ScarecrowSnapshot getScarecrow(UUID uuid);
+
+    /**
+     * Get all scarecrows in a world
+     *
+     * @param worldId World UUID
+     * @return Snapshots of the scarecrows in the world
+     */
+    List<ScarecrowSnapshot> getScarecrowsInWorld(UUID worldId);
+
+    /**
+     * Get the scarecrows within a radius
+     *
+     * @param location Center
+     * @param radius   Radius in blocks
+     * @return Snapshots of the scarecrows within the radius
+     */
+    List<ScarecrowSnapshot> getScarecrowsInRange(Location location, double radius);
+}
@@ -0,0 +1,20 @@
+package com.example.scarecrowbot.api;
+
+import java.util.UUID;
+
+/**
+ * Immutable view of a scarecrow at one point in time. Safe to keep and read from any thread.
+ *
+ * @param uuid      UUID of the scarecrow's anchor entity
+ * @param botName   Display name
+ * @param worldId   UUID of the world it stands in
+ * @param x         X coordinate
+ * @param y         Y coordinate
+ * @param z         Z coordinate
+ * @param currentHp Current HP
+ * @param maxHp     Maximum HP
+ * @param loaded    True if its entity is currently loaded
+ */
+public record ScarecrowSnapshot(UUID uuid, String botName, UUID worldId, double x, double y, double z,
+                                double currentHp, double maxHp, boolean loaded) {
+}
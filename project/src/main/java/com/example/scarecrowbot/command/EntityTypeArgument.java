@@ -0,0 +1,52 @@
+package com.example.scarecrowbot.command;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import io.papermc.paper.command.brigadier.MessageComponentSerializer;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import net.kyori.adventure.text.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Brigadier argument for the scarecrow entity type (same values as scarecrow.entityType)
+ */
+public class EntityTypeArgument implements CustomArgumentType.Converted<String, String> {
+
+    private static final List<String> ENTITY_TYPES = List.of("VILLAGER", "ZOMBIE", "LIGHTWEIGHT");
+
+    private static final DynamicCommandExceptionType INVALID = new DynamicCommandExceptionType(input ->
+            MessageComponentSerializer.message().serialize(Component.text("Unknown entity type: " + input)));
+
+    @Override
+    public String convert(final String input) throws CommandSyntaxException {
+        final String type = input.toUpperCase(Locale.ROOT);
+        if (!ENTITY_TYPES.contains(type)) {
+            throw INVALID.create(input);
+        }
+        return type;
+    }
+
+    @Override
+    public ArgumentType<String> getNativeType() {
+        return StringArgumentType.word();
+    }
+
+    @Override
+    public <S> CompletableFuture<Suggestions> listSuggestions(final CommandContext<S> context, final SuggestionsBuilder builder) {
+        final String remaining = builder.getRemaining().toUpperCase(Locale.ROOT);
+        for (final String type : ENTITY_TYPES) {
+            if (type.startsWith(remaining)) {
+                builder.suggest(type);
+            }
+        }
+        return builder.buildFuture();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.scarecrowbot.command;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.manager.ScarecrowManager;
+import com.example.scarecrowbot.model.Scarecrow;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import io.papermc.paper.command.brigadier.MessageComponentSerializer;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import net.kyori.adventure.text.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Brigadier argument resolving a scarecrow by its ID or (unique) name; quote names containing spaces
+ */
+public class ScarecrowArgument implements CustomArgumentType.Converted<Scarecrow, String> {
+
+    private static final DynamicCommandExceptionType UNKNOWN = new DynamicCommandExceptionType(input ->
+            MessageComponentSerializer.message().serialize(Component.text("Unknown scarecrow: " + input)));
+
+    private static final DynamicCommandExceptionType AMBIGUOUS = new DynamicCommandExceptionType(input ->
+            MessageComponentSerializer.message().serialize(Component.text("Several scarecrows are named " + input + ", use its ID")));
+
+    private final ScarecrowManager scarecrowManager;
+    private final ScarecrowSuggestions suggestions;
+
+    public ScarecrowArgument(final ScarecrowSuggestions suggestions) {
+        this.scarecrowManager = ScarecrowBotPlugin.getInstance().getScarecrowManager();
+        this.suggestions = suggestions;
+    }
+
+    @Override
+    public Scarecrow convert(final String input) throws CommandSyntaxException {
+        try {
+            final Scarecrow byId = this.scarecrowManager.getScarecrow(UUID.fromString(input));
+            if (byId != null) {
+                return byId;
+            }
+        } catch (final IllegalArgumentException ignored) {
+            // Not an ID, try the name
+        }
+
+        Scarecrow match = null;
+        for (final Scarecrow scarecrow : this.scarecrowManager.getScarecrows()) {
+            if (scarecrow.getBotName().equalsIgnoreCase(input)) {
+                if (match != null) {
+                    throw AMBIGUOUS.create(input);
+                }
+                match = scarecrow;
+            }
+        }
+
+        if (match == null) {
+            throw UNKNOWN.create(input);
+        }
+        return match;
+    }
+
+    @Override
+    public ArgumentType<String> getNativeType() {
+        return StringArgumentType.string();
+    }
+
+    @Override
+    public <S> CompletableFuture<Suggestions> listSuggestions(final CommandContext<S> context, final SuggestionsBuilder builder) {
+        return this.suggestions.suggest(builder);
+    }
+}
@@ -1,321 +1,641 @@
 package com.example.scarecrowbot.command;
 
 import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.manager.ChatPipeline;
+import com.example.scarecrowbot.manager.ConversationManager;
+import com.example.scarecrowbot.manager.DegradationManager;
+import com.example.scarecrowbot.manager.EventLog;
+import com.example.scarecrowbot.manager.JobScheduler;
+import com.example.scarecrowbot.manager.LeaderboardManager;
+import com.example.scarecrowbot.manager.PrivateDummyManager;
+import com.example.scarecrowbot.manager.ReloadManager;
 import com.example.scarecrowbot.manager.ScarecrowManager;
+import com.example.scarecrowbot.manager.SyncManager;
+import com.example.scarecrowbot.manager.TickBenchmark;
+import com.example.scarecrowbot.manager.VisibilityManager;
+import com.example.scarecrowbot.model.Scarecrow;
+import com.example.scarecrowbot.util.NormalizerBenchmark;
+import com.example.scarecrowbot.util.TopK;
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.DoubleArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import io.papermc.paper.command.brigadier.argument.resolvers.FinePositionResolver;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.command.Command;
-import org.bukkit.command.CommandExecutor;
+import org.bukkit.World;
 import org.bukkit.command.CommandSender;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
 
 /**
- * Main command handler for /scarecrow
+ * Brigadier command tree for /scarecrow.
+ * Commands that act on a single scarecrow take an optional scarecrow (ID or name) and otherwise target the
+ * one nearest to the sender (any scarecrow for the console). Permissions are checked by the tree itself,
+ * so players only see the branches they can use.
  */
-public class ScarecrowCommand implements CommandExecutor {
+public class ScarecrowCommand {
+
+    private static final String ARG_SCARECROW = "scarecrow";
+    private static final String ARG_AMOUNT = "amount";
+    private static final String ARG_RADIUS = "radius";
+    private static final String ARG_NAME = "name";
+    private static final String ARG_TYPE = "type";
+    private static final String ARG_POSITION = "position";
+    private static final String ARG_MESSAGE = "message";
+    private static final String ARG_COUNT = "count";
+    private static final String ARG_SECONDS = "seconds";
 
     private final ScarecrowBotPlugin plugin;
     private final ScarecrowManager scarecrowManager;
+    private final ScarecrowArgument scarecrowArgument;
 
     public ScarecrowCommand() {
         this.plugin = ScarecrowBotPlugin.getInstance();
         this.scarecrowManager = this.plugin.getScarecrowManager();
+        this.scarecrowArgument = new ScarecrowArgument(new ScarecrowSuggestions());
     }
 
-    @Override
-    public boolean onCommand(@NotNull final CommandSender sender, @NotNull final Command command,
-                             @NotNull final String label, @NotNull final String[] args) {
-        if (args.length == 0) {
-            this.sendUsage(sender);
-            return true;
+    /**
+     * Build the command tree
+     *
+     * @return Root node of /scarecrow
+     */
+    public LiteralCommandNode<CommandSourceStack> build() {
+        final LiteralArgumentBuilder<CommandSourceStack> root = Commands.literal("scarecrow")
+                .requires(source -> source.getSender().hasPermission("scarecrow.use"))
+                .executes(context -> this.sendUsage(context.getSource().getSender()));
+
+        // The name is followed by more arguments, so it can't be greedy: names with spaces are quoted
+        root.then(Commands.literal("create")
+                .requires(this.permission("scarecrow.admin"))
+                .executes(context -> this.handleCreate(context, null, null, false))
+                .then(Commands.argument(ARG_NAME, StringArgumentType.string())
+                        .executes(context -> this.handleCreate(context, StringArgumentType.getString(context, ARG_NAME), null, false))
+                        .then(Commands.argument(ARG_TYPE, new EntityTypeArgument())
+                                .executes(context -> this.handleCreate(context, StringArgumentType.getString(context, ARG_NAME),
+                                        context.getArgument(ARG_TYPE, String.class), false))
+                                .then(Commands.argument(ARG_POSITION, ArgumentTypes.finePosition(true))
+                                        .executes(context -> this.handleCreate(context, StringArgumentType.getString(context, ARG_NAME),
+                                                context.getArgument(ARG_TYPE, String.class), true))))));
+
+        root.then(Commands.literal("remove")
+                .requires(this.permission("scarecrow.admin"))
+                .executes(context -> this.handleRemove(context.getSource().getSender(), null))
+                .then(Commands.argument(ARG_SCARECROW, this.scarecrowArgument)
+                        .executes(context -> this.handleRemove(context.getSource().getSender(), this.scarecrow(context)))));
+
+        root.then(Commands.literal("move")
+                .requires(this.permission("scarecrow.manage"))
+                .executes(context -> this.handleMove(context, null, false))
+                .then(Commands.argument(ARG_SCARECROW, this.scarecrowArgument)
+                        .executes(context -> this.handleMove(context, this.scarecrow(context), false))
+                        .then(Commands.argument(ARG_POSITION, ArgumentTypes.finePosition(true))
+                                .executes(context -> this.handleMove(context, this.scarecrow(context), true)))));
+
+        for (final String teleport : List.of("tp", "teleport")) {
+            root.then(Commands.literal(teleport)
+                    .requires(this.permission("scarecrow.manage"))
+                    .executes(context -> this.handleTeleport(context.getSource().getSender(), null))
+                    .then(Commands.argument(ARG_SCARECROW, this.scarecrowArgument)
+                            .executes(context -> this.handleTeleport(context.getSource().getSender(), this.scarecrow(context)))));
         }
 
-        final String subCommand = args[0].toLowerCase();
-
-        switch (subCommand) {
-            case "create" -> {
-                return this.handleCreate(sender, args);
-            }
-            case "remove" -> {
-                return this.handleRemove(sender);
-            }
-            case "move" -> {
-                return this.handleMove(sender);
-            }
-            case "tp", "teleport" -> {
-                return this.handleTeleport(sender);
-            }
-            case "heal" -> {
-                return this.handleHeal(sender, args);
-            }
-            case "damage" -> {
-                return this.handleDamage(sender, args);
-            }
-            case "status" -> {
-                return this.handleStatus(sender);
-            }
-            case "say" -> {
-                return this.handleSay(sender, args);
-            }
-            case "togglechat" -> {
-                return this.handleToggleChat(sender);
-            }
-            default -> {
-                this.sendUsage(sender);
-                return true;
-            }
+        root.then(Commands.literal("heal")
+                .requires(this.permission("scarecrow.manage"))
+                .then(Commands.argument(ARG_AMOUNT, DoubleArgumentType.doubleArg(0.1))
+                        .executes(context -> this.handleHeal(context.getSource().getSender(),
+                                DoubleArgumentType.getDouble(context, ARG_AMOUNT)))
+                        .then(Commands.argument(ARG_RADIUS, DoubleArgumentType.doubleArg(0.0))
+                                .executes(context -> this.handleHealInRange(context.getSource().getSender(),
+                                        DoubleArgumentType.getDouble(context, ARG_AMOUNT), DoubleArgumentType.getDouble(context, ARG_RADIUS))))));
+
+        root.then(Commands.literal("damage")
+                .requires(this.permission("scarecrow.manage"))
+                .then(Commands.argument(ARG_AMOUNT, DoubleArgumentType.doubleArg(0.1))
+                        .executes(context -> this.handleDamage(context.getSource().getSender(),
+                                DoubleArgumentType.getDouble(context, ARG_AMOUNT), null))
+                        .then(Commands.argument(ARG_SCARECROW, this.scarecrowArgument)
+                                .executes(context -> this.handleDamage(context.getSource().getSender(),
+                                        DoubleArgumentType.getDouble(context, ARG_AMOUNT), this.scarecrow(context))))));
+
+        root.then(Commands.literal("status")
+                .requires(this.permission("scarecrow.manage"))
+                .executes(context -> this.handleStatus(context.getSource().getSender(), null))
+                .then(Commands.argument(ARG_SCARECROW, this.scarecrowArgument)
+                        .executes(context -> this.handleStatus(context.getSource().getSender(), this.scarecrow(context)))));
+
+        root.then(Commands.literal("say")
+                .requires(this.permission("scarecrow.say"))
+                .then(Commands.argument(ARG_MESSAGE, StringArgumentType.greedyString())
+                        .executes(context -> this.handleSay(context.getSource().getSender(),
+                                StringArgumentType.getString(context, ARG_MESSAGE)))));
+
+        root.then(Commands.literal("dummy")
+                .requires(this.permission("scarecrow.dummy"))
+                .executes(context -> this.handleDummy(context.getSource().getSender(), false))
+                .then(Commands.literal("dismiss")
+                        .executes(context -> this.handleDummy(context.getSource().getSender(), true))));
+
+        root.then(Commands.literal("reload")
+                .requires(this.permission("scarecrow.admin"))
+                .executes(context -> this.handleReload(context.getSource().getSender())));
+
+        root.then(Commands.literal("bench")
+                .requires(this.permission("scarecrow.admin"))
+                .executes(context -> this.handleBench(context.getSource().getSender(), 100, 10))
+                .then(Commands.literal("text")
+                        .executes(context -> this.handleTextBench(context.getSource().getSender(), 1000))
+                        .then(Commands.argument(ARG_COUNT, IntegerArgumentType.integer(1, 100000))
+                                .executes(context -> this.handleTextBench(context.getSource().getSender(),
+                                        IntegerArgumentType.getInteger(context, ARG_COUNT)))))
+                .then(Commands.argument(ARG_COUNT, IntegerArgumentType.integer(1, 2000))
+                        .executes(context -> this.handleBench(context.getSource().getSender(),
+                                IntegerArgumentType.getInteger(context, ARG_COUNT), 10))
+                        .then(Commands.argument(ARG_SECONDS, IntegerArgumentType.integer(1, 60))
+                                .executes(context -> this.handleBench(context.getSource().getSender(),
+                                        IntegerArgumentType.getInteger(context, ARG_COUNT),
+                                        IntegerArgumentType.getInteger(context, ARG_SECONDS))))));
+
+        root.then(Commands.literal("togglechat")
+                .requires(this.permission("scarecrow.admin"))
+                .executes(context -> this.handleToggleChat(context.getSource().getSender())));
+
+        final LiteralArgumentBuilder<CommandSourceStack> top = Commands.literal("top")
+                .executes(context -> this.handleTop(context.getSource().getSender(), LeaderboardManager.Metric.DAMAGE, true));
+        for (final LeaderboardManager.Metric metric : LeaderboardManager.Metric.values()) {
+            top.then(Commands.literal(metric.name().toLowerCase(Locale.ROOT))
+                    .executes(context -> this.handleTop(context.getSource().getSender(), metric, true))
+                    .then(Commands.literal("all")
+                            .executes(context -> this.handleTop(context.getSource().getSender(), metric, true)))
+                    .then(Commands.literal("today")
+                            .executes(context -> this.handleTop(context.getSource().getSender(), metric, false))));
         }
+        root.then(top);
+
+        return root.build();
     }
 
-    private boolean handleCreate(final CommandSender sender, final String[] args) {
-        if (!sender.hasPermission("scarecrow.admin")) {
-            sender.sendMessage(Component.text("You don't have permission to use this command.", NamedTextColor.RED));
-            return true;
-        }
+    private Predicate<CommandSourceStack> permission(final String permission) {
+        return source -> source.getSender().hasPermission(permission);
+    }
 
-        if (!(sender instanceof Player player)) {
-            sender.sendMessage(Component.text("This command can only be used by players.", NamedTextColor.RED));
-            return true;
+    private Scarecrow scarecrow(final CommandContext<CommandSourceStack> context) {
+        return context.getArgument(ARG_SCARECROW, Scarecrow.class);
+    }
+
+    /**
+     * Resolve a position argument in the world of the command source
+     */
+    private Location position(final CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+        final CommandSourceStack source = context.getSource();
+        final World world = source.getLocation().getWorld();
+        return context.getArgument(ARG_POSITION, FinePositionResolver.class).resolve(source)
+                .toLocation(world)
+                .setRotation(source.getLocation().getYaw(), source.getLocation().getPitch());
+    }
+
+    private int handleCreate(final CommandContext<CommandSourceStack> context, final String name, final String entityType,
+                             final boolean hasPosition) throws CommandSyntaxException {
+        final CommandSender sender = context.getSource().getSender();
+        if (!hasPosition && !(sender instanceof Player)) {
+            sender.sendMessage(Component.text("The console must give a position.", NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
         }
 
-        if (this.scarecrowManager.getScarecrowEntity() != null && !this.scarecrowManager.getScarecrowEntity().isDead()) {
-            sender.sendMessage(Component.text("A scarecrow already exists! Remove it first with /scarecrow remove", NamedTextColor.RED));
-            return true;
+        final String botName = name != null ? name : this.plugin.getConfig().getString("bot.name", "Scarecrow");
+        final Location location = hasPosition ? this.position(context) : ((Player) sender).getLocation();
+
+        if (this.plugin.getSyncManager().isDuplicateName(botName)) {
+            sender.sendMessage(Component.text("A scarecrow named " + botName + " already exists; names must be unique while sync is enabled.", NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
         }
 
-        final String botName = args.length > 1 ? String.join(" ", java.util.Arrays.copyOfRange(args, 1, args.length))
-                : this.plugin.getConfig().getString("bot.name", "Scarecrow");
+        final CompletableFuture<Boolean> creation = entityType != null
+                ? this.scarecrowManager.createScarecrow(location, botName, entityType)
+                : this.scarecrowManager.createScarecrow(location, botName);
+        creation.thenAccept(success -> {
+            if (success) {
+                sender.sendMessage(Component.text("Scarecrow created: " + botName, NamedTextColor.GREEN));
+            } else {
+                sender.sendMessage(Component.text("Failed to create scarecrow.", NamedTextColor.RED));
+            }
+        });
 
-        final Location location = player.getLocation();
-        final boolean success = this.scarecrowManager.createScarecrow(location, botName);
+        return Command.SINGLE_SUCCESS;
+    }
 
-        if (success) {
-            sender.sendMessage(Component.text("Scarecrow created: " + botName, NamedTextColor.GREEN));
-        } else {
-            sender.sendMessage(Component.text("Failed to create scarecrow.", NamedTextColor.RED));
+    private int handleRemove(final CommandSender sender, final Scarecrow target) {
+        final Scarecrow scarecrow = this.resolveLoadedTarget(sender, target);
+        if (scarecrow == null) {
+            return Command.SINGLE_SUCCESS;
         }
 
-        return true;
+        this.scarecrowManager.removeScarecrow(scarecrow);
+        sender.sendMessage(Component.text("Scarecrow removed: " + scarecrow.getBotName(), NamedTextColor.GREEN));
+
+        return Command.SINGLE_SUCCESS;
     }
 
-    private boolean handleRemove(final CommandSender sender) {
-        if (!sender.hasPermission("scarecrow.admin")) {
-            sender.sendMessage(Component.text("You don't have permission to use this command.", NamedTextColor.RED));
-            return true;
+    private int handleMove(final CommandContext<CommandSourceStack> context, final Scarecrow target,
+                           final boolean hasPosition) throws CommandSyntaxException {
+        final CommandSender sender = context.getSource().getSender();
+        if (!hasPosition && !(sender instanceof Player)) {
+            sender.sendMessage(Component.text("The console must give a position.", NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
         }
 
-        if (this.scarecrowManager.getScarecrowEntity() == null || this.scarecrowManager.getScarecrowEntity().isDead()) {
-            sender.sendMessage(Component.text("No scarecrow exists.", NamedTextColor.RED));
-            return true;
+        final Scarecrow scarecrow = this.resolveLoadedTarget(sender, target);
+        if (scarecrow == null) {
+            return Command.SINGLE_SUCCESS;
         }
 
-        this.scarecrowManager.removeScarecrow();
-        sender.sendMessage(Component.text("Scarecrow removed.", NamedTextColor.GREEN));
+        final Location location = hasPosition ? this.position(context) : ((Player) sender).getLocation();
+        this.scarecrowManager.moveScarecrow(scarecrow, location).thenAccept(success -> {
+            if (success) {
+                sender.sendMessage(Component.text(hasPosition ? "Scarecrow moved." : "Scarecrow moved to your location.", NamedTextColor.GREEN));
+            } else {
+                sender.sendMessage(Component.text("Failed to move scarecrow.", NamedTextColor.RED));
+            }
+        });
 
-        return true;
+        return Command.SINGLE_SUCCESS;
     }
 
-    private boolean handleMove(final CommandSender sender) {
-        if (!sender.hasPermission("scarecrow.manage")) {
-            sender.sendMessage(Component.text("You don't have permission to use this command.", NamedTextColor.RED));
-            return true;
-        }
-
+    private int handleTeleport(final CommandSender sender, final Scarecrow target) {
         if (!(sender instanceof Player player)) {
             sender.sendMessage(Component.text("This command can only be used by players.", NamedTextColor.RED));
-            return true;
+            return Command.SINGLE_SUCCESS;
         }
 
-        if (this.scarecrowManager.getScarecrowEntity() == null || this.scarecrowManager.getScarecrowEntity().isDead()) {
+        final Scarecrow scarecrow = target != null ? target : this.resolveTarget(sender);
+        if (scarecrow == null) {
             sender.sendMessage(Component.text("No scarecrow exists.", NamedTextColor.RED));
-            return true;
+            return Command.SINGLE_SUCCESS;
         }
 
-        final Location location = player.getLocation();
-        this.scarecrowManager.moveScarecrow(location);
-        sender.sendMessage(Component.text("Scarecrow moved to your location.", NamedTextColor.GREEN));
+        // Use the cached spawn location: the entity may be owned by another region thread (or unloaded)
+        player.teleportAsync(scarecrow.getSpawnLocation()).thenAccept(success -> {
+            if (success) {
+                sender.sendMessage(Component.text("Teleported to scarecrow.", NamedTextColor.GREEN));
+            } else {
+                sender.sendMessage(Component.text("Failed to teleport to scarecrow.", NamedTextColor.RED));
+            }
+        });
 
-        return true;
+        return Command.SINGLE_SUCCESS;
     }
 
-    private boolean handleTeleport(final CommandSender sender) {
-        if (!sender.hasPermission("scarecrow.manage")) {
-            sender.sendMessage(Component.text("You don't have permission to use this command.", NamedTextColor.RED));
-            return true;
+    private int handleHeal(final CommandSender sender, final double amount) {
+        final Scarecrow scarecrow = this.resolveLoadedTarget(sender, null);
+        if (scarecrow == null) {
+            return Command.SINGLE_SUCCESS;
         }
 
-        if (!(sender instanceof Player player)) {
-            sender.sendMessage(Component.text("This command can only be used by players.", NamedTextColor.RED));
-            return true;
-        }
+        final double oldHp = scarecrow.getCurrentHp();
+        this.scarecrowManager.heal(scarecrow, amount);
+        final double newHp = scarecrow.getCurrentHp();
 
-        final LivingEntity scarecrow = this.scarecrowManager.getScarecrowEntity();
-        if (scarecrow == null || scarecrow.isDead()) {
-            sender.sendMessage(Component.text("No scarecrow exists.", NamedTextColor.RED));
-            return true;
+        sender.sendMessage(Component.text(String.format("Scarecrow healed: %.1f → %.1f HP", oldHp, newHp), NamedTextColor.GREEN));
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private int handleDamage(final CommandSender sender, final double amount, final Scarecrow target) {
+        final Scarecrow scarecrow = this.resolveLoadedTarget(sender, target);
+        if (scarecrow == null) {
+            return Command.SINGLE_SUCCESS;
         }
 
-        player.teleport(scarecrow.getLocation());
-        sender.sendMessage(Component.text("Teleported to scarecrow.", NamedTextColor.GREEN));
+        final double oldHp = scarecrow.getCurrentHp();
+        this.scarecrowManager.damage(scarecrow, amount);
+        final double newHp = scarecrow.getCurrentHp();
+
+        sender.sendMessage(Component.text(String.format("Scarecrow damaged: %.1f → %.1f HP", oldHp, newHp), NamedTextColor.GREEN));
 
-        return true;
+        return Command.SINGLE_SUCCESS;
     }
 
-    private boolean handleHeal(final CommandSender sender, final String[] args) {
-        if (!sender.hasPermission("scarecrow.manage")) {
-            sender.sendMessage(Component.text("You don't have permission to use this command.", NamedTextColor.RED));
-            return true;
+    private int handleStatus(final CommandSender sender, final Scarecrow target) {
+        final Scarecrow scarecrow = target != null ? target : this.resolveTarget(sender);
+        if (scarecrow == null) {
+            sender.sendMessage(Component.text("No scarecrow exists.", NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
         }
 
-        if (this.scarecrowManager.getScarecrowEntity() == null || this.scarecrowManager.getScarecrowEntity().isDead()) {
-            sender.sendMessage(Component.text("No scarecrow exists.", NamedTextColor.RED));
-            return true;
+        final String botName = scarecrow.getBotName();
+        final double currentHp = scarecrow.getCurrentHp();
+        final double maxHp = scarecrow.getMaxHp();
+        final Location location = scarecrow.getSpawnLocation();
+
+        sender.sendMessage(Component.text("=== Scarecrow Status ===", NamedTextColor.GOLD));
+        sender.sendMessage(Component.text("Scarecrows: " + this.scarecrowManager.getScarecrows().size(), NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("Name: " + botName + (scarecrow.isAlive() ? "" : " (not loaded)"), NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text(String.format("HP: %.1f / %.1f", currentHp, maxHp), NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text(String.format("Location: %.1f, %.1f, %.1f in %s",
+                location.getX(), location.getY(), location.getZ(),
+                location.getWorld() != null ? location.getWorld().getName() : "unknown"), NamedTextColor.YELLOW));
+
+        final ChatPipeline chatPipeline = this.plugin.getChatPipeline();
+        sender.sendMessage(Component.text(String.format("Chat queue: %d queued, %d processed, %d dropped",
+                chatPipeline.getQueuedCount(), chatPipeline.getProcessedCount(), chatPipeline.getDroppedCount()), NamedTextColor.YELLOW));
+
+        final ConversationManager conversationManager = this.plugin.getConversationManager();
+        sender.sendMessage(Component.text(String.format("Conversation memory: %d players, %d messages",
+                conversationManager.size(), conversationManager.getMessageCount()), NamedTextColor.YELLOW));
+
+        final VisibilityManager visibilityManager = this.plugin.getVisibilityManager();
+        final EventLog eventLog = this.plugin.getEventLog();
+        if (eventLog.isEnabled()) {
+            sender.sendMessage(Component.text(String.format("Event log: %d written, %d dropped",
+                    eventLog.getWrittenCount(), eventLog.getDroppedCount()), NamedTextColor.YELLOW));
         }
 
-        if (args.length < 2) {
-            sender.sendMessage(Component.text("Usage: /scarecrow heal <amount>", NamedTextColor.RED));
-            return true;
+        for (final JobScheduler.Job<?> job : this.plugin.getJobScheduler().getJobs()) {
+            sender.sendMessage(Component.text(String.format("Job %s: %d/%d", job.getName(), job.getProcessed(), job.getTotal()),
+                    NamedTextColor.YELLOW));
         }
 
-        try {
-            final double amount = Double.parseDouble(args[1]);
-            if (amount <= 0) {
-                sender.sendMessage(Component.text("Amount must be positive.", NamedTextColor.RED));
-                return true;
+        final DegradationManager degradationManager = this.plugin.getDegradationManager();
+        if (degradationManager.isEnabled()) {
+            sender.sendMessage(Component.text(String.format("Degradation: level %d (%.1f ms/tick avg), %d transitions",
+                    degradationManager.getLevel(), degradationManager.getAverageMspt(),
+                    degradationManager.getTransitionCount()), NamedTextColor.YELLOW));
+            for (final DegradationManager.Transition transition : degradationManager.getRecentTransitions()) {
+                sender.sendMessage(Component.text(String.format("  %d -> %d at %.1f ms/tick, %ds ago",
+                        transition.from(), transition.to(), transition.mspt(),
+                        (System.currentTimeMillis() - transition.timeMillis()) / 1000L), NamedTextColor.YELLOW));
             }
+        }
+
+        final SyncManager syncManager = this.plugin.getSyncManager();
+        if (syncManager.isEnabled()) {
+            sender.sendMessage(Component.text(syncManager.describe(), NamedTextColor.YELLOW));
+        }
 
-            final double oldHp = this.scarecrowManager.getCurrentHp();
-            this.scarecrowManager.heal(amount);
-            final double newHp = this.scarecrowManager.getCurrentHp();
+        final PrivateDummyManager privateDummyManager = this.plugin.getPrivateDummyManager();
+        if (privateDummyManager.isEnabled()) {
+            sender.sendMessage(Component.text(String.format("Private dummies: %d/%d claimed, %d spawned, %d reused",
+                    privateDummyManager.getClaimedCount(), privateDummyManager.getPoolSize(),
+                    privateDummyManager.getSpawnCount(), privateDummyManager.getReuseCount()), NamedTextColor.YELLOW));
+        }
 
-            sender.sendMessage(Component.text(String.format("Scarecrow healed: %.1f → %.1f HP", oldHp, newHp), NamedTextColor.GREEN));
-        } catch (final NumberFormatException exception) {
-            sender.sendMessage(Component.text("Invalid number: " + args[1], NamedTextColor.RED));
+        if (visibilityManager.isEnabled()) {
+            sender.sendMessage(Component.text(String.format("Visibility: %d hidden (scarecrow, player) pairs, ~%d packets saved",
+                    visibilityManager.getHiddenCount(), visibilityManager.getPacketsSaved()), NamedTextColor.YELLOW));
         }
 
-        return true;
+        return Command.SINGLE_SUCCESS;
     }
 
-    private boolean handleDamage(final CommandSender sender, final String[] args) {
-        if (!sender.hasPermission("scarecrow.manage")) {
-            sender.sendMessage(Component.text("You don't have permission to use this command.", NamedTextColor.RED));
-            return true;
-        }
+    private int handleSay(final CommandSender sender, final String message) {
+        this.scarecrowManager.speak(this.resolveTarget(sender), message);
 
-        if (this.scarecrowManager.getScarecrowEntity() == null || this.scarecrowManager.getScarecrowEntity().isDead()) {
-            sender.sendMessage(Component.text("No scarecrow exists.", NamedTextColor.RED));
-            return true;
-        }
+        return Command.SINGLE_SUCCESS;
+    }
 
-        if (args.length < 2) {
-            sender.sendMessage(Component.text("Usage: /scarecrow damage <amount>", NamedTextColor.RED));
-            return true;
+    private int handleTop(final CommandSender sender, final LeaderboardManager.Metric metric, final boolean allTime) {
+        final LeaderboardManager leaderboardManager = this.plugin.getLeaderboardManager();
+        if (!leaderboardManager.isEnabled()) {
+            sender.sendMessage(Component.text("Leaderboards are disabled.", NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
         }
 
-        try {
-            final double amount = Double.parseDouble(args[1]);
-            if (amount <= 0) {
-                sender.sendMessage(Component.text("Amount must be positive.", NamedTextColor.RED));
-                return true;
-            }
+        // Served from memory, never touches the database
+        final List<TopK.Entry> entries = leaderboardManager.getTop(metric, allTime);
+        sender.sendMessage(Component.text(String.format("=== Top %s (%s) ===", metric.name().toLowerCase(),
+                allTime ? "all time" : "today"), NamedTextColor.GOLD));
 
-            final double oldHp = this.scarecrowManager.getCurrentHp();
-            this.scarecrowManager.damage(amount);
-            final double newHp = this.scarecrowManager.getCurrentHp();
+        if (entries.isEmpty()) {
+            sender.sendMessage(Component.text("No hits recorded yet.", NamedTextColor.GRAY));
+            return Command.SINGLE_SUCCESS;
+        }
 
-            sender.sendMessage(Component.text(String.format("Scarecrow damaged: %.1f → %.1f HP", oldHp, newHp), NamedTextColor.GREEN));
-        } catch (final NumberFormatException exception) {
-            sender.sendMessage(Component.text("Invalid number: " + args[1], NamedTextColor.RED));
+        int rank = 1;
+        for (final TopK.Entry entry : entries) {
+            sender.sendMessage(Component.text(String.format("%d. %s - %.1f", rank++, entry.name(), entry.score()), NamedTextColor.YELLOW));
         }
 
-        return true;
+        return Command.SINGLE_SUCCESS;
     }
 
-    private boolean handleStatus(final CommandSender sender) {
-        if (!sender.hasPermission("scarecrow.manage")) {
-            sender.sendMessage(Component.text("You don't have permission to use this command.", NamedTextColor.RED));
-            return true;
+    private int handleDummy(final CommandSender sender, final boolean dismiss) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(Component.text("This command can only be used by players.", NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
         }
 
-        final LivingEntity scarecrow = this.scarecrowManager.getScarecrowEntity();
-        if (scarecrow == null || scarecrow.isDead()) {
-            sender.sendMessage(Component.text("No scarecrow exists.", NamedTextColor.RED));
-            return true;
+        final PrivateDummyManager privateDummyManager = this.plugin.getPrivateDummyManager();
+        if (!privateDummyManager.isEnabled()) {
+            sender.sendMessage(Component.text("Private dummies are disabled.", NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
         }
 
-        final String botName = this.scarecrowManager.getBotName();
-        final double currentHp = this.scarecrowManager.getCurrentHp();
-        final double maxHp = this.scarecrowManager.getMaxHp();
-        final Location location = this.scarecrowManager.getSpawnLocation();
+        if (dismiss) {
+            if (privateDummyManager.dismiss(player)) {
+                sender.sendMessage(Component.text("Private dummy dismissed.", NamedTextColor.GREEN));
+            } else {
+                sender.sendMessage(Component.text("You don't have a private dummy.", NamedTextColor.RED));
+            }
+            return Command.SINGLE_SUCCESS;
+        }
 
-        sender.sendMessage(Component.text("=== Scarecrow Status ===", NamedTextColor.GOLD));
-        sender.sendMessage(Component.text("Name: " + botName, NamedTextColor.YELLOW));
-        sender.sendMessage(Component.text(String.format("HP: %.1f / %.1f", currentHp, maxHp), NamedTextColor.YELLOW));
-        sender.sendMessage(Component.text(String.format("Location: %.1f, %.1f, %.1f in %s",
-                location.getX(), location.getY(), location.getZ(),
-                location.getWorld() != null ? location.getWorld().getName() : "unknown"), NamedTextColor.YELLOW));
+        privateDummyManager.summon(player).thenAccept(success -> {
+            if (success) {
+                sender.sendMessage(Component.text("Private dummy summoned. Only you can see and hit it.", NamedTextColor.GREEN));
+            } else {
+                sender.sendMessage(Component.text("No private dummy is available right now, try again later.", NamedTextColor.RED));
+            }
+        });
 
-        return true;
+        return Command.SINGLE_SUCCESS;
     }
 
-    private boolean handleSay(final CommandSender sender, final String[] args) {
-        if (!sender.hasPermission("scarecrow.say")) {
-            sender.sendMessage(Component.text("You don't have permission to use this command.", NamedTextColor.RED));
-            return true;
+    private int handleReload(final CommandSender sender) {
+        sender.sendMessage(Component.text("Reloading config...", NamedTextColor.YELLOW));
+
+        this.plugin.getReloadManager().reload().whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                this.plugin.getLogger().severe("Reload failed: " + throwable.getMessage());
+                sender.sendMessage(Component.text("Reload failed, see the console.", NamedTextColor.RED));
+                return;
+            }
+
+            this.sendReloadResult(sender, result);
+        });
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private void sendReloadResult(final CommandSender sender, final ReloadManager.Result result) {
+        if (result.error() != null) {
+            sender.sendMessage(Component.text(result.error(), NamedTextColor.RED));
+            return;
+        }
+
+        if (result.changed() == 0) {
+            sender.sendMessage(Component.text("Config reloaded, nothing changed.", NamedTextColor.GREEN));
+            return;
+        }
+
+        sender.sendMessage(Component.text(String.format("Config reloaded: %d setting(s) changed.", result.changed()), NamedTextColor.GREEN));
+        if (!result.applied().isEmpty()) {
+            sender.sendMessage(Component.text("Rebuilt: " + String.join(", ", result.applied()), NamedTextColor.YELLOW));
+        }
+        if (!result.restartRequired().isEmpty()) {
+            sender.sendMessage(Component.text("Needs a restart: " + String.join(", ", result.restartRequired()), NamedTextColor.GOLD));
         }
+    }
 
-        if (args.length < 2) {
-            sender.sendMessage(Component.text("Usage: /scarecrow say <message>", NamedTextColor.RED));
-            return true;
+    private int handleBench(final CommandSender sender, final int count, final int seconds) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(Component.text("Only players can run the benchmark.", NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
         }
 
-        final String message = String.join(" ", java.util.Arrays.copyOfRange(args, 1, args.length));
-        final FileConfiguration config = this.plugin.getConfig();
-        final String botName = this.scarecrowManager.getBotName();
-        final String chatFormat = config.getString("bot.chatFormat", "<{botName}> {message}");
+        sender.sendMessage(Component.text(String.format("Measuring %d villager and %d lightweight probes, about %ds...",
+                count, count, seconds * 3 + 8), NamedTextColor.YELLOW));
+
+        this.plugin.getTickBenchmark().run(player.getLocation(), count, seconds).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                sender.sendMessage(Component.text("Benchmark failed: " + cause.getMessage(), NamedTextColor.RED));
+                return;
+            }
+
+            sender.sendMessage(Component.text(String.format("Baseline: %.2f ms/tick", result.baselineMspt()), NamedTextColor.GREEN));
+            for (final TickBenchmark.ModeResult mode : result.modes()) {
+                final double extra = mode.mspt() - result.baselineMspt();
+                sender.sendMessage(Component.text(String.format("%s x%d: %.2f ms/tick (%+.2f ms, %.1f µs per scarecrow)",
+                        mode.mode(), result.count(), mode.mspt(), extra, extra * 1000.0 / result.count()), NamedTextColor.YELLOW));
+            }
+        });
+
+        return Command.SINGLE_SUCCESS;
+    }
 
-        final String formattedMessage = chatFormat
-                .replace("{botName}", botName)
-                .replace("{message}", message);
+    private int handleTextBench(final CommandSender sender, final int rounds) {
+        sender.sendMessage(Component.text(String.format("Timing chat normalization, %d rounds per case...", rounds), NamedTextColor.YELLOW));
 
-        Bukkit.broadcast(Component.text(formattedMessage));
+        // Pure CPU work, kept off the tick
+        Bukkit.getAsyncScheduler().runNow(this.plugin, task -> {
+            for (final NormalizerBenchmark.CaseResult result : NormalizerBenchmark.run(rounds)) {
+                sender.sendMessage(Component.text(String.format("%s: %.1f ns/message", result.name(), result.nanosPerMessage()),
+                        NamedTextColor.YELLOW));
+            }
+        });
 
-        return true;
+        return Command.SINGLE_SUCCESS;
     }
 
-    private boolean handleToggleChat(final CommandSender sender) {
-        if (!sender.hasPermission("scarecrow.admin")) {
-            sender.sendMessage(Component.text("You don't have permission to use this command.", NamedTextColor.RED));
-            return true;
+    private int handleToggleChat(final CommandSender sender) {
+        final boolean[] newValue = new boolean[1];
+        this.plugin.updateConfig(config -> {
+            newValue[0] = !config.getBoolean("bot.respondToChat", true);
+            config.set("bot.respondToChat", newValue[0]);
+        });
+
+        sender.sendMessage(Component.text("Chat responses " + (newValue[0] ? "enabled" : "disabled"), NamedTextColor.GREEN));
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private int handleHealInRange(final CommandSender sender, final double amount, final double radius) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(Component.text("A radius can only be used by players.", NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
         }
 
-        final FileConfiguration config = this.plugin.getConfig();
-        final boolean currentValue = config.getBoolean("bot.respondToChat", true);
-        final boolean newValue = !currentValue;
+        final List<Scarecrow> inRange = new ArrayList<>(this.scarecrowManager.findInRange(player.getLocation(), radius));
+        inRange.removeIf(scarecrow -> !scarecrow.isAlive());
+        if (inRange.isEmpty()) {
+            sender.sendMessage(Component.text(String.format("No loaded scarecrow within %.1f blocks", radius), NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
+        }
 
-        config.set("bot.respondToChat", newValue);
-        this.plugin.saveConfig();
+        // Spread over ticks, large areas can hold hundreds of scarecrows
+        final JobScheduler.Job<Scarecrow> job = this.plugin.getJobScheduler().submit("heal", inRange,
+                scarecrow -> this.scarecrowManager.heal(scarecrow, amount));
+        if (!job.isDone()) {
+            sender.sendMessage(Component.text(String.format("Healing %d scarecrow(s)...", job.getTotal()), NamedTextColor.YELLOW));
+        }
+        job.getCompletion().thenRun(() -> sender.sendMessage(Component.text(
+                String.format("Healed %d scarecrow(s) within %.1f blocks by %.1f HP", job.getTotal(), radius, amount),
+                NamedTextColor.GREEN)));
 
-        sender.sendMessage(Component.text("Chat responses " + (newValue ? "enabled" : "disabled"), NamedTextColor.GREEN));
+        return Command.SINGLE_SUCCESS;
+    }
 
-        return true;
+    /**
+     * Resolve the scarecrow a command acts on: the nearest one for players, any one for the console
+     *
+     * @param sender Command sender
+     * @return Target scarecrow, or null if none exist
+     */
+    private Scarecrow resolveTarget(final CommandSender sender) {
+        if (sender instanceof Player player) {
+            return this.scarecrowManager.findNearest(player.getLocation());
+        }
+
+        final Iterator<Scarecrow> scarecrows = this.scarecrowManager.getScarecrows().iterator();
+        return scarecrows.hasNext() ? scarecrows.next() : null;
     }
 
-    private void sendUsage(final CommandSender sender) {
+    /**
+     * Resolve the target scarecrow and make sure its entity is loaded, telling the sender otherwise
+     *
+     * @param sender Command sender
+     * @param target Scarecrow given as argument, or null for the default target
+     * @return Loaded target scarecrow, or null
+     */
+    private Scarecrow resolveLoadedTarget(final CommandSender sender, final Scarecrow target) {
+        final Scarecrow scarecrow = target != null ? target : this.resolveTarget(sender);
+        if (scarecrow == null) {
+            sender.sendMessage(Component.text("No scarecrow exists.", NamedTextColor.RED));
+            return null;
+        }
+
+        if (!scarecrow.isAlive()) {
+            sender.sendMessage(Component.text("Scarecrow " + scarecrow.getBotName() + " is not loaded.", NamedTextColor.RED));
+            return null;
+        }
+
+        return scarecrow;
+    }
+
+    private int sendUsage(final CommandSender sender) {
         sender.sendMessage(Component.text("=== Scarecrow Commands ===", NamedTextColor.GOLD));
-        sender.sendMessage(Component.text("/scarecrow create [name] - Create scarecrow", NamedTextColor.YELLOW));
-        sender.sendMessage(Component.text("/scarecrow remove - Remove scarecrow", NamedTextColor.YELLOW));
-        sender.sendMessage(Component.text("/scarecrow move - Move to your location", NamedTextColor.YELLOW));
-        sender.sendMessage(Component.text("/scarecrow tp - Teleport to scarecrow", NamedTextColor.YELLOW));
-        sender.sendMessage(Component.text("/scarecrow heal <amount> - Heal scarecrow", NamedTextColor.YELLOW));
-        sender.sendMessage(Component.text("/scarecrow damage <amount> - Damage scarecrow", NamedTextColor.YELLOW));
-        sender.sendMessage(Component.text("/scarecrow status - Show status", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow create [name] [type] [position] - Create scarecrow (quote names with spaces)", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow remove [scarecrow] - Remove nearest (or given) scarecrow", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow move [scarecrow] [position] - Move nearest to your location", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow tp [scarecrow] - Teleport to nearest scarecrow", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow heal <amount> [radius] - Heal nearest (or all in radius)", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow damage <amount> [scarecrow] - Damage scarecrow", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow status [scarecrow] - Show status", NamedTextColor.YELLOW));
         sender.sendMessage(Component.text("/scarecrow say <message> - Make scarecrow speak", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow dummy [dismiss] - Summon or dismiss your private dummy", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow reload - Reload config.yml", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow bench [count] [seconds] - Compare tick cost of villager and lightweight mode", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow bench text [rounds] - Time chat normalization on mixed Korean/English chat", NamedTextColor.YELLOW));
         sender.sendMessage(Component.text("/scarecrow togglechat - Toggle chat responses", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/scarecrow top [damage|hit|dps] [today|all] - Damage leaderboards", NamedTextColor.YELLOW));
+
+        return Command.SINGLE_SUCCESS;
     }
 }
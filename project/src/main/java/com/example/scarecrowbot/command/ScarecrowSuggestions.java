@@ -0,0 +1,116 @@
+package com.example.scarecrowbot.command;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.manager.ScarecrowManager;
+import com.example.scarecrowbot.model.Scarecrow;
+import com.mojang.brigadier.LiteralMessage;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import org.bukkit.Bukkit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cached, sorted index of scarecrow names and IDs for tab completion.
+ * <p>
+ * The index is rebuilt only when a scarecrow is added or removed, and a completion is a binary search for
+ * the typed prefix plus a bounded walk, computed on an async thread. Completion cost therefore doesn't
+ * grow with the number of scarecrows, and never runs on a tick thread.
+ */
+public class ScarecrowSuggestions {
+
+    private static final int MAX_SUGGESTIONS = 50;
+
+    /**
+     * Immutable index: lowercase keys sorted, with the suggestion text and tooltip at the same position
+     */
+    private record Index(int version, String[] keys, String[] texts, String[] tooltips) {
+    }
+
+    private record Suggestion(String key, String text, String tooltip) {
+    }
+
+    private final ScarecrowBotPlugin plugin;
+    private final ScarecrowManager scarecrowManager;
+    private volatile Index index = new Index(-1, new String[0], new String[0], new String[0]);
+
+    public ScarecrowSuggestions() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+        this.scarecrowManager = this.plugin.getScarecrowManager();
+    }
+
+    /**
+     * Suggest scarecrow names and IDs matching the builder's remaining input
+     *
+     * @param builder Suggestions builder
+     * @return Future completed on an async thread
+     */
+    public CompletableFuture<Suggestions> suggest(final SuggestionsBuilder builder) {
+        final CompletableFuture<Suggestions> result = new CompletableFuture<>();
+        Bukkit.getAsyncScheduler().runNow(this.plugin, task -> result.complete(this.compute(builder)));
+        return result;
+    }
+
+    private Suggestions compute(final SuggestionsBuilder builder) {
+        final Index current = this.current();
+        final String prefix = builder.getRemainingLowerCase();
+
+        int position = Arrays.binarySearch(current.keys(), prefix);
+        if (position < 0) {
+            position = -position - 1; // First key >= prefix
+        }
+
+        for (int count = 0; position < current.keys().length && count < MAX_SUGGESTIONS; position++, count++) {
+            if (!current.keys()[position].startsWith(prefix)) {
+                break;
+            }
+            builder.suggest(current.texts()[position], new LiteralMessage(current.tooltips()[position]));
+        }
+
+        return builder.build();
+    }
+
+    private Index current() {
+        final Index current = this.index;
+        final int version = this.scarecrowManager.getStructureVersion();
+        if (current.version() == version) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (this.index.version() != version) {
+                this.index = this.build(version);
+            }
+            return this.index;
+        }
+    }
+
+    private Index build(final int version) {
+        final List<Suggestion> suggestions = new ArrayList<>();
+        for (final Scarecrow scarecrow : this.scarecrowManager.getScarecrows()) {
+            final String id = scarecrow.getUuid().toString();
+            final String name = StringArgumentType.escapeIfRequired(scarecrow.getBotName());
+            suggestions.add(new Suggestion(name.toLowerCase(Locale.ROOT), name, id));
+            suggestions.add(new Suggestion(id, id, scarecrow.getBotName()));
+        }
+        suggestions.sort(Comparator.comparing(Suggestion::key));
+
+        final int size = suggestions.size();
+        final String[] keys = new String[size];
+        final String[] texts = new String[size];
+        final String[] tooltips = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = suggestions.get(i).key();
+            texts[i] = suggestions.get(i).text();
+            tooltips[i] = suggestions.get(i).tooltip();
+        }
+
+        return new Index(version, keys, texts, tooltips);
+    }
+}
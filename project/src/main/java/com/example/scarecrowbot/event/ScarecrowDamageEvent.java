@@ -0,0 +1,55 @@
+package com.example.scarecrowbot.event;
+
+import com.example.scarecrowbot.api.ScarecrowSnapshot;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.HandlerList;
+
+/**
+ * Called on the scarecrow's entity thread before damage is applied to its HP.
+ * Cancelling it leaves the HP untouched; the damage can also be changed.
+ */
+public class ScarecrowDamageEvent extends ScarecrowEvent implements Cancellable {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    /**
+     * Attacking entity, or null for environmental damage
+     */
+    @Getter
+    private final Entity damager;
+
+    @Getter
+    @Setter
+    private double damage;
+
+    @Getter
+    @Setter
+    private boolean cancelled;
+
+    public ScarecrowDamageEvent(final ScarecrowSnapshot scarecrow, final Entity damager, final double damage) {
+        super(scarecrow);
+        this.damager = damager;
+        this.damage = damage;
+    }
+
+    /**
+     * Check if anyone listens to this event
+     *
+     * @return True if at least one listener is registered
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+}
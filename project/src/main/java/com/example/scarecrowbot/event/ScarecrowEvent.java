@@ -0,0 +1,22 @@
+package com.example.scarecrowbot.event;
+
+import com.example.scarecrowbot.api.ScarecrowSnapshot;
+import lombok.Getter;
+import org.bukkit.event.Event;
+
+/**
+ * Base class of all scarecrow events. Carries an immutable snapshot of the scarecrow taken when the
+ * event was created, so listeners never see the plugin's internal state.
+ * <p>
+ * Events are only constructed when at least one listener is registered for them, so an unused event
+ * costs a single array length check on the hot path.
+ */
+public abstract class ScarecrowEvent extends Event {
+
+    @Getter
+    private final ScarecrowSnapshot scarecrow;
+
+    protected ScarecrowEvent(final ScarecrowSnapshot scarecrow) {
+        this.scarecrow = scarecrow;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.scarecrowbot.event;
+
+import com.example.scarecrowbot.api.ScarecrowSnapshot;
+import lombok.Getter;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.HandlerList;
+
+/**
+ * Called on the scarecrow's entity thread when damage drives it down to the minimum HP
+ */
+public class ScarecrowMinHpEvent extends ScarecrowEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    /**
+     * Attacking entity, or null for environmental damage
+     */
+    @Getter
+    private final Entity damager;
+
+    public ScarecrowMinHpEvent(final ScarecrowSnapshot scarecrow, final Entity damager) {
+        super(scarecrow);
+        this.damager = damager;
+    }
+
+    /**
+     * Check if anyone listens to this event
+     *
+     * @return True if at least one listener is registered
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.scarecrowbot.event;
+
+import com.example.scarecrowbot.api.ScarecrowSnapshot;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.Location;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.HandlerList;
+
+/**
+ * Called on the scarecrow's entity thread before it is moved with {@code /scarecrow move}.
+ * Cancelling it keeps the scarecrow where it is.
+ */
+public class ScarecrowMoveEvent extends ScarecrowEvent implements Cancellable {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final Location to;
+
+    @Getter
+    @Setter
+    private boolean cancelled;
+
+    public ScarecrowMoveEvent(final ScarecrowSnapshot scarecrow, final Location to) {
+        super(scarecrow);
+        this.to = to;
+    }
+
+    /**
+     * Get the target location
+     *
+     * @return Copy of the location the scarecrow is moved to
+     */
+    public Location getTo() {
+        return this.to.clone();
+    }
+
+    /**
+     * Check if anyone listens to this event
+     *
+     * @return True if at least one listener is registered
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+}
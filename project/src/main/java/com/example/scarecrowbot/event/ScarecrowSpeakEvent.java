@@ -0,0 +1,50 @@
+package com.example.scarecrowbot.event;
+
+import com.example.scarecrowbot.api.ScarecrowSnapshot;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.HandlerList;
+
+/**
+ * Called on the global region thread before a scarecrow's message is broadcast,
+ * both for automatic replies and for {@code /scarecrow say}.
+ */
+public class ScarecrowSpeakEvent extends ScarecrowEvent implements Cancellable {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    /**
+     * Message text, before the chat format is applied
+     */
+    @Getter
+    @Setter
+    private String message;
+
+    @Getter
+    @Setter
+    private boolean cancelled;
+
+    public ScarecrowSpeakEvent(final ScarecrowSnapshot scarecrow, final String message) {
+        super(scarecrow);
+        this.message = message;
+    }
+
+    /**
+     * Check if anyone listens to this event
+     *
+     * @return True if at least one listener is registered
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+}
@@ -1,22 +1,26 @@
 package com.example.scarecrowbot.listener;
 
 import com.example.scarecrowbot.ScarecrowBotPlugin;
-import com.example.scarecrowbot.manager.CooldownManager;
+import com.example.scarecrowbot.manager.ChatPipeline;
+import com.example.scarecrowbot.manager.ConversationManager;
+import com.example.scarecrowbot.manager.PositionSnapshotManager;
 import com.example.scarecrowbot.manager.ScarecrowManager;
+import com.example.scarecrowbot.model.Conversation;
+import com.example.scarecrowbot.model.Scarecrow;
+import com.example.scarecrowbot.reply.ReplyContext;
+import com.example.scarecrowbot.reply.ReplyService;
+import com.example.scarecrowbot.util.TextNormalizer;
 import io.papermc.paper.event.player.AsyncChatEvent;
-import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
-import org.bukkit.Bukkit;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
+import java.util.Iterator;
+import java.util.Locale;
 
 /**
  * Handles player chat and bot responses
@@ -25,187 +29,110 @@ public class ChatListener implements Listener {
 
     private final ScarecrowBotPlugin plugin;
     private final ScarecrowManager scarecrowManager;
-    private final CooldownManager cooldownManager;
-    private final Random random;
+    private final PositionSnapshotManager positionSnapshotManager;
+    private final ChatPipeline chatPipeline;
+    private final ReplyService replyService;
+    private final ConversationManager conversationManager;
 
     public ChatListener() {
         this.plugin = ScarecrowBotPlugin.getInstance();
         this.scarecrowManager = this.plugin.getScarecrowManager();
-        this.cooldownManager = this.plugin.getCooldownManager();
-        this.random = new Random();
+        this.positionSnapshotManager = this.plugin.getPositionSnapshotManager();
+        this.chatPipeline = this.plugin.getChatPipeline();
+        this.replyService = this.plugin.getReplyService();
+        this.conversationManager = this.plugin.getConversationManager();
     }
 
     /**
-     * Handle player chat events
+     * Handle player chat events.
+     * Only hands the message to the chat pipeline; reply providers are started from its worker thread.
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onAsyncChat(final AsyncChatEvent event) {
-        final FileConfiguration config = this.plugin.getConfig();
-
-        if (!config.getBoolean("bot.respondToChat", true)) {
+        if (!this.plugin.getConfig().getBoolean("bot.respondToChat", true)) {
             return;
         }
 
-        final Player player = event.getPlayer();
-        final Component messageComponent = event.message();
-        final String message = PlainTextComponentSerializer.plainText().serialize(messageComponent).toLowerCase();
-
-        // Try keyword replies first
-        final String keywordReply = this.checkKeywordReplies(player, message);
-        if (keywordReply != null) {
-            this.broadcastBotMessage(keywordReply);
-            return;
-        }
+        final String message = PlainTextComponentSerializer.plainText().serialize(event.message()).toLowerCase(Locale.ROOT);
+        this.chatPipeline.submit(event.getPlayer(), message);
+    }
 
-        // Try random replies
-        final String randomReply = this.checkRandomReplies(player);
-        if (randomReply != null) {
-            this.broadcastBotMessage(randomReply);
-        }
+    /**
+     * Drop the conversation memory of players who log out
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.conversationManager.forget(event.getPlayer().getUniqueId());
     }
 
     /**
-     * Check if message triggers keyword replies
+     * Hand a queued chat message to the reply providers (chat pipeline worker thread)
      *
-     * @param player Player who sent the message
-     * @param message Message content (lowercase)
-     * @return Reply message or null
+     * @param job Queued chat message
      */
-    private String checkKeywordReplies(final Player player, final String message) {
+    public void processChat(final ChatPipeline.ChatJob job) {
         final FileConfiguration config = this.plugin.getConfig();
+        final Player player = job.player();
+        final String message = job.message();
 
-        if (!config.getBoolean("bot.keywordReplies.enabled", true)) {
-            return null;
-        }
-
-        final int globalCooldown = config.getInt("bot.keywordReplies.cooldownSecondsGlobal", 2);
-        final int playerCooldown = config.getInt("bot.keywordReplies.cooldownSecondsPerPlayer", 6);
-
-        // Check global cooldown
-        if (this.cooldownManager.isOnGlobalCooldown("keyword")) {
-            return null;
-        }
+        // Providers see every message, including ones the bot doesn't answer
+        this.replyService.learn(message);
 
-        // Check player cooldown
-        if (this.cooldownManager.isOnPlayerCooldown(player.getUniqueId(), "keyword")) {
-            return null;
-        }
-
-        final List<Map<?, ?>> rules = config.getMapList("bot.keywordReplies.rules");
-        if (rules.isEmpty()) {
-            return null;
+        // The player left while the message was queued; don't bring the forgotten conversation back
+        if (!player.isOnline()) {
+            return;
         }
 
-        for (final Map<?, ?> rule : rules) {
-            final List<String> keywords = this.asStringList(rule.get("keywords"));
-            final List<String> replies = this.asStringList(rule.get("replies"));
-
-            if (keywords.isEmpty() || replies.isEmpty()) {
-                continue;
-            }
-
-            // Check if message contains any keyword
-            final boolean keywordFound = keywords.stream()
-                    .map(String::toLowerCase)
-                    .anyMatch(message::contains);
-
-            if (keywordFound) {
-                // Set cooldowns
-                this.cooldownManager.setGlobalCooldown("keyword", globalCooldown);
-                this.cooldownManager.setPlayerCooldown(player.getUniqueId(), "keyword", playerCooldown);
-
-                // Return random reply from this rule
-                return replies.get(this.random.nextInt(replies.size()));
+        // With proximity chat, only the scarecrow nearest to the player answers, and only within the radius
+        Scarecrow responder = null;
+        if (this.positionSnapshotManager.isEnabled()) {
+            responder = this.findResponder(player, config.getDouble("bot.proximity.radius", 16.0));
+            if (responder == null) {
+                return;
             }
+        } else {
+            // Without proximity any scarecrow may answer; keep the first so listeners see who spoke
+            final Iterator<Scarecrow> iterator = this.scarecrowManager.getScarecrows().iterator();
+            responder = iterator.hasNext() ? iterator.next() : null;
         }
 
-        return null;
-    }
-
-    private List<String> asStringList(final Object rawValue) {
-        if (rawValue instanceof List<?> list) {
-            final List<String> results = new ArrayList<>();
+        final String normalized = TextNormalizer.normalize(message);
+        final Conversation conversation = this.conversationManager.get(player.getUniqueId());
+        conversation.addMessage(normalized);
 
-            for (final Object element : list) {
-                if (element == null) {
-                    continue;
-                }
-
-                final String text = element.toString().trim();
-                if (!text.isEmpty()) {
-                    results.add(text);
-                }
-            }
-
-            return results;
+        // Under tick pressure only a sample of messages get a reply; the rest still count as context
+        if (!this.plugin.getDegradationManager().sampleChatReply()) {
+            return;
         }
 
-        return List.of();
+        // Providers run on virtual threads; the worker moves on to the next message right away
+        final Scarecrow answering = responder;
+        final String botName = answering != null ? answering.getBotName() : this.scarecrowManager.getBotName();
+        this.replyService.reply(new ReplyContext(player, message, normalized, botName, conversation)).thenAccept(reply -> {
+            if (reply != null) {
+                conversation.recordReply(reply);
+                this.scarecrowManager.speak(answering, reply);
+                this.plugin.getEventLog().log("reply", "player", player.getUniqueId(), "playerName", player.getName(),
+                        "scarecrow", answering != null ? answering.getUuid() : null, "message", message, "reply", reply);
+            }
+        });
     }
 
     /**
-     * Check if bot should send random reply
+     * Find the scarecrow nearest to a player within a radius.
+     * Uses the player position published on the player's thread and the scarecrow index, so this is
+     * safe on the chat worker thread without touching any entity.
      *
      * @param player Player who sent the message
-     * @return Reply message or null
+     * @param radius Maximum distance in blocks
+     * @return Nearest scarecrow, or null if none is within the radius
      */
-    private String checkRandomReplies(final Player player) {
-        final FileConfiguration config = this.plugin.getConfig();
-
-        if (!config.getBoolean("bot.randomReply.enabled", true)) {
-            return null;
-        }
-
-        final int chancePercent = config.getInt("bot.randomReply.chancePercent", 10);
-        final int globalCooldown = config.getInt("bot.randomReply.cooldownSecondsGlobal", 3);
-        final int playerCooldown = config.getInt("bot.randomReply.cooldownSecondsPerPlayer", 8);
-
-        // Check global cooldown
-        if (this.cooldownManager.isOnGlobalCooldown("random")) {
-            return null;
-        }
-
-        // Check player cooldown
-        if (this.cooldownManager.isOnPlayerCooldown(player.getUniqueId(), "random")) {
-            return null;
-        }
-
-        // Roll chance
-        final int roll = this.random.nextInt(100);
-        if (roll >= chancePercent) {
-            return null;
-        }
-
-        // Get random message
-        final List<String> messages = config.getStringList("bot.randomReply.messages");
-        if (messages.isEmpty()) {
+    private Scarecrow findResponder(final Player player, final double radius) {
+        final PositionSnapshotManager.Position position = this.positionSnapshotManager.getPosition(player.getUniqueId());
+        if (position == null) {
             return null;
         }
 
-        // Set cooldowns
-        this.cooldownManager.setGlobalCooldown("random", globalCooldown);
-        this.cooldownManager.setPlayerCooldown(player.getUniqueId(), "random", playerCooldown);
-
-        return messages.get(this.random.nextInt(messages.size()));
-    }
-
-    /**
-     * Broadcast a bot message (must be called from sync context)
-     *
-     * @param message Message to broadcast
-     */
-    private void broadcastBotMessage(final String message) {
-        // Schedule sync task since AsyncChatEvent is async
-        Bukkit.getScheduler().runTask(this.plugin, () -> {
-            final FileConfiguration config = this.plugin.getConfig();
-            final String botName = this.scarecrowManager.getBotName();
-            final String chatFormat = config.getString("bot.chatFormat", "<{botName}> {message}");
-
-            final String formattedMessage = chatFormat
-                    .replace("{botName}", botName)
-                    .replace("{message}", message);
-
-            Bukkit.broadcast(Component.text(formattedMessage));
-        });
+        return this.scarecrowManager.getIndex().nearest(position.worldId(), position.x(), position.y(), position.z(), radius);
     }
 }
@@ -0,0 +1,37 @@
+package com.example.scarecrowbot.listener;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.manager.ScarecrowManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+
+/**
+ * Binds persisted scarecrows to their entities as chunk entities load and unload
+ */
+public class ChunkListener implements Listener {
+
+    private final ScarecrowManager scarecrowManager;
+
+    public ChunkListener() {
+        this.scarecrowManager = ScarecrowBotPlugin.getInstance().getScarecrowManager();
+    }
+
+    /**
+     * Handle entity loads (entities load separately from, and after, their chunk)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(final EntitiesLoadEvent event) {
+        this.scarecrowManager.handleEntitiesLoad(event.getEntities());
+    }
+
+    /**
+     * Handle entity unloads, so no scarecrow keeps a reference to an unloaded entity
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(final EntitiesUnloadEvent event) {
+        this.scarecrowManager.handleEntitiesUnload(event.getEntities());
+    }
+}
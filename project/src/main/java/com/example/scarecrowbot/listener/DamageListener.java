@@ -1,26 +1,40 @@
 package com.example.scarecrowbot.listener;
 
 import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.event.ScarecrowDamageEvent;
+import com.example.scarecrowbot.event.ScarecrowMinHpEvent;
+import com.example.scarecrowbot.manager.EventLog;
 import com.example.scarecrowbot.manager.ScarecrowManager;
+import com.example.scarecrowbot.model.Scarecrow;
+import io.papermc.paper.event.player.PrePlayerAttackEntityEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.Interaction;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityDeathEvent;
 
 /**
- * Handles damage and death events for the scarecrow
+ * Handles damage and death events for scarecrows
  */
 public class DamageListener implements Listener {
 
     private final ScarecrowBotPlugin plugin;
     private final ScarecrowManager scarecrowManager;
+    private final EventLog eventLog;
 
     public DamageListener() {
         this.plugin = ScarecrowBotPlugin.getInstance();
         this.scarecrowManager = this.plugin.getScarecrowManager();
+        this.eventLog = this.plugin.getEventLog();
     }
 
     /**
@@ -34,6 +48,7 @@ public class DamageListener implements Listener {
             return;
         }
 
+        final Scarecrow scarecrow = this.scarecrowManager.getScarecrow(entity);
         final FileConfiguration config = this.plugin.getConfig();
 
         // If invulnerable in config, cancel all damage
@@ -42,23 +57,122 @@ public class DamageListener implements Listener {
             return;
         }
 
-        final double currentHp = this.scarecrowManager.getCurrentHp();
-        final double damage = event.getFinalDamage();
+        final Entity damager = event instanceof EntityDamageByEntityEvent byEntity ? byEntity.getDamager() : null;
+
+        // Prevent death by keeping HP at minHP
+        if (scarecrow == null || this.applyDamage(scarecrow, damager, event.getFinalDamage())) {
+            event.setCancelled(true); // Cancel event to prevent vanilla death
+        } else {
+            event.setDamage(0); // Set damage to 0 since we handle it manually via PDC
+        }
+    }
+
+    /**
+     * Handle attacks on lightweight scarecrows.
+     * Interaction entities never receive damage events, so hits are turned into the same HP logic here.
+     */
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onPrePlayerAttack(final PrePlayerAttackEntityEvent event) {
+        final Entity attacked = event.getAttacked();
+
+        if (!(attacked instanceof Interaction) || !this.scarecrowManager.isScarecrow(attacked)) {
+            return;
+        }
+
+        event.setCancelled(true);
+
+        if (this.plugin.getConfig().getBoolean("scarecrow.invulnerable", false)) {
+            return;
+        }
+
+        final Scarecrow scarecrow = this.scarecrowManager.getScarecrow(attacked);
+        if (scarecrow != null) {
+            this.applyDamage(scarecrow, event.getPlayer(), this.computeAttackDamage(event.getPlayer()));
+        }
+    }
+
+    /**
+     * Apply damage to the scarecrow HP, never going below minHP
+     *
+     * @param scarecrow Damaged scarecrow
+     * @param damager   Attacking entity, or null
+     * @param amount    Damage amount
+     * @return True if the vanilla damage should be cancelled (clamped to minHP or cancelled by a listener)
+     */
+    private boolean applyDamage(final Scarecrow scarecrow, final Entity damager, final double amount) {
+        double damage = amount;
+
+        // Only build the event when another plugin listens to it
+        if (ScarecrowDamageEvent.hasListeners()) {
+            final ScarecrowDamageEvent damageEvent = new ScarecrowDamageEvent(scarecrow.getSnapshot(), damager, damage);
+            Bukkit.getPluginManager().callEvent(damageEvent);
+            if (damageEvent.isCancelled()) {
+                return true;
+            }
+            damage = Math.max(0.0, damageEvent.getDamage());
+        }
+
+        final FileConfiguration config = this.plugin.getConfig();
+        final double currentHp = scarecrow.getCurrentHp();
         final double newHp = currentHp - damage;
         final double minHp = config.getDouble("scarecrow.minHP", 1.0);
 
-        // Prevent death by keeping HP at minHP
+        this.scarecrowManager.showDamageNumber(scarecrow, damage);
+
+        // Credit the hit to the attacking player (or the shooter of a projectile)
+        if (damager instanceof Player player) {
+            this.plugin.getLeaderboardManager().record(player, damage);
+        } else if (damager instanceof Projectile projectile && projectile.getShooter() instanceof Player shooter) {
+            this.plugin.getLeaderboardManager().record(shooter, damage);
+        }
+
+        if (this.eventLog.isEnabled()) {
+            this.eventLog.log("damage", "scarecrow", scarecrow.getUuid(),
+                    "damager", damager != null ? damager.getUniqueId() : null,
+                    "damagerName", damager != null ? damager.getName() : null,
+                    "amount", damage, "hp", Math.max(minHp, newHp));
+        }
+
         if (newHp <= minHp) {
-            this.scarecrowManager.setHp(minHp);
-            event.setCancelled(true); // Cancel event to prevent vanilla death
+            scarecrow.markDamaged();
+            this.scarecrowManager.setHp(scarecrow, minHp);
+
+            // Only the hit that brings it down counts, not further hits while it stays at the minimum
+            if (currentHp <= minHp) {
+                return true;
+            }
+
+            if (this.eventLog.isEnabled()) {
+                this.eventLog.log("min_hp", "scarecrow", scarecrow.getUuid(),
+                        "damager", damager != null ? damager.getUniqueId() : null, "hp", minHp);
+            }
+
+            if (ScarecrowMinHpEvent.hasListeners()) {
+                Bukkit.getPluginManager().callEvent(new ScarecrowMinHpEvent(scarecrow.getSnapshot(), damager));
+            }
 
             // Log low HP event
-            this.plugin.getLogger().info("Scarecrow reached minimum HP (" + minHp + ")");
-        } else {
-            // Apply damage normally
-            this.scarecrowManager.damage(damage);
-            event.setDamage(0); // Set damage to 0 since we handle it manually via PDC
+            this.plugin.getLogger().info("Scarecrow " + scarecrow.getBotName() + " reached minimum HP (" + minHp + ")");
+            return true;
         }
+
+        // Apply damage normally
+        this.scarecrowManager.damage(scarecrow, damage);
+        return false;
+    }
+
+    /**
+     * Approximate vanilla melee damage: attack damage attribute scaled by the attack cooldown
+     *
+     * @param player Attacking player
+     * @return Damage amount
+     */
+    private double computeAttackDamage(final Player player) {
+        final AttributeInstance attackDamage = player.getAttribute(Attribute.GENERIC_ATTACK_DAMAGE);
+        final double baseDamage = attackDamage != null ? attackDamage.getValue() : 1.0;
+        final float cooldown = player.getAttackCooldown();
+
+        return baseDamage * (0.2 + cooldown * cooldown * 0.8);
     }
 
     /**
@@ -82,6 +196,9 @@ public class DamageListener implements Listener {
         // Restore HP to minHP
         final FileConfiguration config = this.plugin.getConfig();
         final double minHp = config.getDouble("scarecrow.minHP", 1.0);
-        this.scarecrowManager.setHp(minHp);
+        final Scarecrow scarecrow = this.scarecrowManager.getScarecrow(entity);
+        if (scarecrow != null) {
+            this.scarecrowManager.setHp(scarecrow, minHp);
+        }
     }
 }
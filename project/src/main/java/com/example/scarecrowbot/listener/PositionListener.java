@@ -0,0 +1,31 @@
+package com.example.scarecrowbot.listener;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.manager.PositionSnapshotManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Starts and stops publishing player positions for proximity chat
+ */
+public class PositionListener implements Listener {
+
+    private final PositionSnapshotManager positionSnapshotManager;
+
+    public PositionListener() {
+        this.positionSnapshotManager = ScarecrowBotPlugin.getInstance().getPositionSnapshotManager();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        this.positionSnapshotManager.track(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.positionSnapshotManager.forget(event.getPlayer());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.scarecrowbot.listener;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.manager.PrivateDummyManager;
+import com.example.scarecrowbot.model.PrivateDummy;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Damage and logout handling for private training dummies
+ */
+public class PrivateDummyListener implements Listener {
+
+    private final ScarecrowBotPlugin plugin;
+    private final PrivateDummyManager privateDummyManager;
+
+    public PrivateDummyListener() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+        this.privateDummyManager = this.plugin.getPrivateDummyManager();
+    }
+
+    /**
+     * Only the owner can damage their dummy; the hit goes to the dummy's own HP and the entity never dies
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onEntityDamage(final EntityDamageEvent event) {
+        final Entity entity = event.getEntity();
+        if (!this.privateDummyManager.isDummy(entity)) {
+            return;
+        }
+
+        final PrivateDummy dummy = this.privateDummyManager.getDummy(entity);
+        final Player attacker = event instanceof EntityDamageByEntityEvent byEntity ? this.attackingPlayer(byEntity.getDamager()) : null;
+        if (dummy == null || attacker == null || !attacker.getUniqueId().equals(dummy.getOwner())) {
+            event.setCancelled(true);
+            return;
+        }
+
+        final double damage = event.getFinalDamage();
+        this.privateDummyManager.damage(dummy, damage);
+        this.plugin.getLeaderboardManager().record(attacker, damage);
+
+        // Keep the hurt animation, HP is tracked on the dummy
+        event.setDamage(0);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.privateDummyManager.forget(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Resolve the player behind a hit (directly or as the shooter of a projectile)
+     */
+    private Player attackingPlayer(final Entity damager) {
+        if (damager instanceof Player player) {
+            return player;
+        }
+        if (damager instanceof Projectile projectile && projectile.getShooter() instanceof Player shooter) {
+            return shooter;
+        }
+        return null;
+    }
+}
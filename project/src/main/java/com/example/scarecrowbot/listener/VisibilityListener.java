@@ -0,0 +1,63 @@
+package com.example.scarecrowbot.listener;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.manager.VisibilityManager;
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+/**
+ * Marks players for visibility re-evaluation when they move far enough to matter
+ */
+public class VisibilityListener implements Listener {
+
+    private final VisibilityManager visibilityManager;
+
+    public VisibilityListener() {
+        this.visibilityManager = ScarecrowBotPlugin.getInstance().getVisibilityManager();
+    }
+
+    /**
+     * Only chunk crossings trigger a re-check, plain walking and looking around are ignored
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(final PlayerMoveEvent event) {
+        if (this.crossedChunk(event.getFrom(), event.getTo())) {
+            this.visibilityManager.markDirty(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(final PlayerTeleportEvent event) {
+        if (this.crossedChunk(event.getFrom(), event.getTo())) {
+            this.visibilityManager.markDirty(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(final PlayerChangedWorldEvent event) {
+        this.visibilityManager.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        this.visibilityManager.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.visibilityManager.forget(event.getPlayer());
+    }
+
+    private boolean crossedChunk(final Location from, final Location to) {
+        return from.getWorld() != to.getWorld()
+                || (from.getBlockX() >> 4) != (to.getBlockX() >> 4)
+                || (from.getBlockZ() >> 4) != (to.getBlockZ() >> 4);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue between the chat threads and a single background worker that runs the reply rules.
+ * <p>
+ * The chat event only enqueues the message (lock-free, never blocks), so chat delivery doesn't wait on
+ * reply rules. When the queue is full the overflow policy decides what happens: DROP discards the new
+ * message, SAMPLE keeps one in every {@code sampleRate} new messages by evicting the oldest queued one.
+ * Every discarded message is counted.
+ */
+public class ChatPipeline {
+
+    private static final String POLICY_SAMPLE = "SAMPLE";
+
+    /**
+     * Chat message waiting for the reply rules
+     */
+    public record ChatJob(Player player, String message) {
+    }
+
+    private final ScarecrowBotPlugin plugin;
+
+    private final Queue<ChatJob> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger overflowCounter = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+
+    private volatile int capacity;
+    private volatile boolean sample;
+    private volatile int sampleRate;
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public ChatPipeline() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+    }
+
+    /**
+     * Read settings and start the worker thread
+     *
+     * @param handler Reply logic, run on the worker thread
+     */
+    public void start(final Consumer<ChatJob> handler) {
+        final FileConfiguration config = this.plugin.getConfig();
+        this.capacity = Math.max(1, config.getInt("bot.queue.capacity", 256));
+        this.sample = POLICY_SAMPLE.equalsIgnoreCase(config.getString("bot.queue.overflowPolicy", "DROP"));
+        this.sampleRate = Math.max(1, config.getInt("bot.queue.sampleRate", 10));
+
+        if (this.running) {
+            return;
+        }
+
+        final Thread thread = new Thread(() -> this.run(handler), "ScarecrowBot-Chat");
+        thread.setDaemon(true);
+        this.worker = thread;
+        this.running = true;
+        thread.start();
+    }
+
+    /**
+     * Stop the worker, discarding queued messages
+     */
+    public void stop() {
+        this.running = false;
+
+        final Thread thread = this.worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(1000L);
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            this.worker = null;
+        }
+
+        this.queue.clear();
+        this.size.set(0);
+    }
+
+    /**
+     * Queue a chat message. Never blocks.
+     *
+     * @param player  Player who sent the message
+     * @param message Plain message text
+     * @return True if the message was queued
+     */
+    public boolean submit(final Player player, final String message) {
+        if (!this.running) {
+            return false;
+        }
+
+        if (!this.reserveSlot()) {
+            return false;
+        }
+
+        this.queue.offer(new ChatJob(player, message));
+        LockSupport.unpark(this.worker);
+        return true;
+    }
+
+    /**
+     * Get the number of messages dropped because the queue was full
+     *
+     * @return Dropped message count
+     */
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Get the number of messages run through the reply rules
+     *
+     * @return Processed message count
+     */
+    public long getProcessedCount() {
+        return this.processed.sum();
+    }
+
+    /**
+     * Get the number of queued messages
+     *
+     * @return Queue size
+     */
+    public int getQueuedCount() {
+        return this.size.get();
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            final int current = this.size.get();
+            if (current < this.capacity) {
+                if (this.size.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+                continue;
+            }
+
+            // Queue is full
+            this.dropped.increment();
+            if (!this.sample || this.overflowCounter.incrementAndGet() % this.sampleRate != 0) {
+                return false;
+            }
+
+            // Sampled: make room by evicting the oldest message, which keeps its slot for the new one
+            return this.queue.poll() != null;
+        }
+    }
+
+    private void run(final Consumer<ChatJob> handler) {
+        while (this.running) {
+            final ChatJob job = this.queue.poll();
+            if (job == null) {
+                LockSupport.park(this);
+                continue;
+            }
+
+            this.size.decrementAndGet();
+
+            try {
+                handler.accept(job);
+            } catch (final RuntimeException exception) {
+                this.plugin.getLogger().warning("Failed to process chat message: " + exception.getMessage());
+            }
+
+            this.processed.increment();
+        }
+    }
+}
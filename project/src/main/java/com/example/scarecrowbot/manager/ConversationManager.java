@@ -0,0 +1,96 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.model.Conversation;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bounded per-player conversation memory.
+ * <p>
+ * Conversations live in an access-ordered LRU map capped at bot.memory.maxPlayers entries, each holding
+ * at most bot.memory.messagesPerPlayer messages, so memory use has a hard upper bound regardless of the
+ * player count. The last bot.avoidRepeatLast replies (at least one) are kept per player so reply pools
+ * can avoid repeating them. Conversations idle for longer than bot.memory.expireSeconds start over, and a
+ * player's conversation is dropped when they log out.
+ */
+public class ConversationManager {
+
+    private final ScarecrowBotPlugin plugin;
+
+    private final Map<UUID, Conversation> conversations;
+
+    private final int maxPlayers;
+    private final int messagesPerPlayer;
+    private final int repliesPerPlayer;
+    private final long expireMillis;
+
+    public ConversationManager() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+
+        final FileConfiguration config = this.plugin.getConfig();
+        this.maxPlayers = Math.max(1, config.getInt("bot.memory.maxPlayers", 200));
+        this.messagesPerPlayer = Math.max(1, config.getInt("bot.memory.messagesPerPlayer", 5));
+        this.repliesPerPlayer = Math.max(1, config.getInt("bot.avoidRepeatLast", 0));
+        this.expireMillis = Math.max(1L, config.getLong("bot.memory.expireSeconds", 300L)) * 1000L;
+
+        this.conversations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<UUID, Conversation> eldest) {
+                return this.size() > ConversationManager.this.maxPlayers;
+            }
+        };
+    }
+
+    /**
+     * Get a player's conversation, starting a new one if there is none or it expired
+     *
+     * @param playerUuid Player UUID
+     * @return Conversation
+     */
+    public synchronized Conversation get(final UUID playerUuid) {
+        final Conversation existing = this.conversations.get(playerUuid);
+        if (existing != null && System.currentTimeMillis() - existing.getLastActivityMillis() < this.expireMillis) {
+            return existing;
+        }
+
+        final Conversation created = new Conversation(this.messagesPerPlayer, this.repliesPerPlayer);
+        this.conversations.put(playerUuid, created);
+        return created;
+    }
+
+    /**
+     * Drop a player's conversation (on logout)
+     *
+     * @param playerUuid Player UUID
+     */
+    public synchronized void forget(final UUID playerUuid) {
+        this.conversations.remove(playerUuid);
+    }
+
+    /**
+     * Get the number of remembered conversations
+     *
+     * @return Conversation count
+     */
+    public synchronized int size() {
+        return this.conversations.size();
+    }
+
+    /**
+     * Get the total number of remembered messages (at most maxPlayers * messagesPerPlayer)
+     *
+     * @return Message count
+     */
+    public synchronized int getMessageCount() {
+        int total = 0;
+        for (final Conversation conversation : this.conversations.values()) {
+            total += conversation.getMessageCount();
+        }
+
+        return total;
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.scarecrowbot.manager;
 
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 /**
  * Manages cooldowns for chat responses (global and per-player)
@@ -15,6 +17,12 @@ public class CooldownManager {
     private final Map<String, Long> globalCooldowns = new ConcurrentHashMap<>();
     private final Map<String, Map<UUID, Long>> playerCooldowns = new ConcurrentHashMap<>();
 
+    /**
+     * Notified with (key, expiry millis) when a global cooldown is set locally (cross-server sync)
+     */
+    @Setter
+    private volatile BiConsumer<String, Long> globalCooldownListener;
+
     /**
      * Check if a global cooldown is active
      *
@@ -72,6 +80,23 @@ public class CooldownManager {
     public void setGlobalCooldown(final String key, final int seconds) {
         final long expirationTime = System.currentTimeMillis() + (seconds * 1000L);
         this.globalCooldowns.put(key, expirationTime);
+
+        final BiConsumer<String, Long> listener = this.globalCooldownListener;
+        if (listener != null) {
+            listener.accept(key, expirationTime);
+        }
+    }
+
+    /**
+     * Merge a global cooldown set on another server; the later expiry wins
+     *
+     * @param key            Cooldown identifier
+     * @param expirationTime Expiry time in epoch milliseconds
+     */
+    public void mergeGlobalCooldown(final String key, final long expirationTime) {
+        if (expirationTime > System.currentTimeMillis()) {
+            this.globalCooldowns.merge(key, expirationTime, Math::max);
+        }
     }
 
     /**
@@ -0,0 +1,288 @@
+package com.example.scarecrowbot.manager;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Steps cosmetic work down while the server is under tick pressure.
+ * <p>
+ * Tick durations from {@link ServerTickEndEvent} are smoothed into a moving average. When the average
+ * passes a level's threshold the plugin switches to that level right away; it steps back up one level at
+ * a time once the average has stayed below the current threshold (minus a margin) for a while, so a
+ * single fast tick doesn't bring the load back. Each level inherits the settings of the one before it.
+ * Folia has no global tick and never fires the event, so there the plugin simply stays at level 0.
+ */
+public class DegradationManager implements Listener {
+
+    private static final int TRANSITION_HISTORY = 5;
+
+    /**
+     * Settings in effect at one level
+     *
+     * @param msptAbove              Average tick duration (ms) above which this level applies
+     * @param effects                Play damage sounds and particles
+     * @param nameUpdateMultiplier   Factor applied to the nameplate update interval
+     * @param chatSampleRate         Answer one in this many chat messages
+     * @param positionLockMultiplier Factor applied to the position lock period
+     */
+    public record Level(double msptAbove, boolean effects, int nameUpdateMultiplier, int chatSampleRate,
+                        int positionLockMultiplier) {
+    }
+
+    /**
+     * A level change
+     *
+     * @param timeMillis Time of the change
+     * @param from       Previous level
+     * @param to         New level
+     * @param mspt       Average tick duration at the time
+     */
+    public record Transition(long timeMillis, int from, int to, double mspt) {
+    }
+
+    private static final Level NORMAL = new Level(0.0, true, 1, 1, 1);
+
+    private final ScarecrowBotPlugin plugin;
+
+    private final Deque<Transition> transitions = new ArrayDeque<>();
+    private final AtomicLong transitionCount = new AtomicLong();
+    private final AtomicLong chatCounter = new AtomicLong();
+
+    private volatile List<Level> levels = List.of(NORMAL);
+    private volatile int levelIndex;
+    private volatile double averageMspt;
+
+    private volatile boolean enabled;
+    private double smoothing;
+    private double hysteresisMillis;
+    private long recoverMillis;
+    private long belowSinceMillis;
+
+    public DegradationManager() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+    }
+
+    /**
+     * Read the levels and start watching tick durations
+     */
+    public void start() {
+        final FileConfiguration config = this.plugin.getConfig();
+        this.enabled = config.getBoolean("degradation.enabled", true);
+        if (!this.enabled) {
+            return;
+        }
+
+        this.smoothing = Math.min(1.0, Math.max(0.01, config.getDouble("degradation.smoothing", 0.1)));
+        this.hysteresisMillis = Math.max(0.0, config.getDouble("degradation.hysteresisMillis", 5.0));
+        this.recoverMillis = (long) (Math.max(0.0, config.getDouble("degradation.recoverSeconds", 10.0)) * 1000L);
+        this.levels = this.parseLevels(config.getMapList("degradation.levels"));
+
+        this.plugin.getServer().getPluginManager().registerEvents(this, this.plugin);
+    }
+
+    /**
+     * Stop watching and return to full quality
+     */
+    public void stop() {
+        HandlerList.unregisterAll(this);
+        this.enabled = false;
+        this.levelIndex = 0;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(final ServerTickEndEvent event) {
+        final double average = this.averageMspt + (event.getTickDuration() - this.averageMspt) * this.smoothing;
+        this.averageMspt = average;
+
+        final List<Level> current = this.levels;
+        final int index = this.levelIndex;
+
+        // Jump straight to the highest level whose threshold is exceeded
+        int target = index;
+        while (target + 1 < current.size() && average > current.get(target + 1).msptAbove()) {
+            target++;
+        }
+        if (target > index) {
+            this.belowSinceMillis = 0L;
+            this.changeLevel(index, target, average);
+            return;
+        }
+
+        if (index == 0) {
+            return;
+        }
+
+        // Recover one level at a time after a sustained quiet period
+        if (average >= current.get(index).msptAbove() - this.hysteresisMillis) {
+            this.belowSinceMillis = 0L;
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        if (this.belowSinceMillis == 0L) {
+            this.belowSinceMillis = now;
+        } else if (now - this.belowSinceMillis >= this.recoverMillis) {
+            this.belowSinceMillis = 0L;
+            this.changeLevel(index, index - 1, average);
+        }
+    }
+
+    /**
+     * Check if damage sounds and particles should play
+     *
+     * @return True if effects are allowed at the current level
+     */
+    public boolean allowEffects() {
+        return this.level().effects();
+    }
+
+    /**
+     * Scale a nameplate update interval for the current level
+     *
+     * @param intervalTicks Configured interval
+     * @return Interval to use
+     */
+    public long scaleNameUpdateInterval(final long intervalTicks) {
+        return intervalTicks * this.level().nameUpdateMultiplier();
+    }
+
+    /**
+     * Scale the position lock period for the current level
+     *
+     * @param periodTicks Normal period
+     * @return Period to use
+     */
+    public long scalePositionLockPeriod(final long periodTicks) {
+        return periodTicks * this.level().positionLockMultiplier();
+    }
+
+    /**
+     * Decide whether this chat message may get a reply (one in chatSampleRate at the current level)
+     *
+     * @return True if the message should be answered
+     */
+    public boolean sampleChatReply() {
+        final int rate = this.level().chatSampleRate();
+        return rate <= 1 || this.chatCounter.incrementAndGet() % rate == 0;
+    }
+
+    /**
+     * Get the current level number (0 = full quality)
+     *
+     * @return Level
+     */
+    public int getLevel() {
+        return this.levelIndex;
+    }
+
+    /**
+     * Get the smoothed tick duration
+     *
+     * @return Average milliseconds per tick
+     */
+    public double getAverageMspt() {
+        return this.averageMspt;
+    }
+
+    /**
+     * Get the number of level changes since startup
+     *
+     * @return Transition count
+     */
+    public long getTransitionCount() {
+        return this.transitionCount.get();
+    }
+
+    /**
+     * Get the most recent level changes, newest first
+     *
+     * @return Recent transitions
+     */
+    public List<Transition> getRecentTransitions() {
+        synchronized (this.transitions) {
+            return List.copyOf(this.transitions);
+        }
+    }
+
+    /**
+     * Check if tick pressure is watched
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    private Level level() {
+        final List<Level> current = this.levels;
+        return current.get(Math.min(this.levelIndex, current.size() - 1));
+    }
+
+    private void changeLevel(final int from, final int to, final double mspt) {
+        final Level previous = this.levels.get(from);
+        this.levelIndex = to;
+        final Level next = this.levels.get(to);
+
+        this.transitionCount.incrementAndGet();
+        synchronized (this.transitions) {
+            this.transitions.addFirst(new Transition(System.currentTimeMillis(), from, to, mspt));
+            while (this.transitions.size() > TRANSITION_HISTORY) {
+                this.transitions.removeLast();
+            }
+        }
+
+        this.plugin.getLogger().info(String.format("Tick pressure: level %d -> %d (%.1f ms/tick)", from, to, mspt));
+        this.plugin.getEventLog().log("degradation", "from", from, "to", to, "mspt", mspt);
+
+        // Lock tasks run at a fixed rate, so a new period means restarting them
+        if (previous.positionLockMultiplier() != next.positionLockMultiplier()) {
+            final ScarecrowManager scarecrowManager = this.plugin.getScarecrowManager();
+            scarecrowManager.stopPositionLockTask();
+            scarecrowManager.startPositionLockTask();
+        }
+    }
+
+    /**
+     * Build the level list: level 0 is full quality, each configured level inherits from the previous one
+     */
+    private List<Level> parseLevels(final List<Map<?, ?>> rawLevels) {
+        final List<Level> parsed = new ArrayList<>();
+        parsed.add(NORMAL);
+
+        Level previous = NORMAL;
+        for (final Map<?, ?> raw : rawLevels) {
+            final double msptAbove = this.number(raw.get("msptAbove"), Double.NaN);
+            if (Double.isNaN(msptAbove) || msptAbove <= previous.msptAbove()) {
+                this.plugin.getLogger().warning("Skipping degradation level without an increasing msptAbove: " + raw);
+                continue;
+            }
+
+            final Object effects = raw.get("effects");
+            final Level level = new Level(msptAbove,
+                    effects instanceof Boolean allowed ? allowed : previous.effects(),
+                    Math.max(1, (int) this.number(raw.get("nameUpdateMultiplier"), previous.nameUpdateMultiplier())),
+                    Math.max(1, (int) this.number(raw.get("chatSampleRate"), previous.chatSampleRate())),
+                    Math.max(1, (int) this.number(raw.get("positionLockMultiplier"), previous.positionLockMultiplier())));
+            parsed.add(level);
+            previous = level;
+        }
+
+        return List.copyOf(parsed);
+    }
+
+    private double number(final Object value, final double fallback) {
+        return value instanceof Number number ? number.doubleValue() : fallback;
+    }
+}
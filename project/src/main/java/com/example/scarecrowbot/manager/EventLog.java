@@ -0,0 +1,319 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.google.gson.stream.JsonWriter;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Optional structured log of scarecrow events, one JSON object per line (NDJSON) in {@code logs/events.ndjson}.
+ * <p>
+ * {@link #log(String, Object...)} only enqueues the event (lock-free, never blocks, never formats); a single
+ * background writer drains the queue in batches, serializes the events and flushes once per batch. The file
+ * is rotated when it grows past {@code eventLog.maxFileSizeMb} or gets older than {@code eventLog.rotateHours},
+ * and rotated files are gzipped. When the queue is full new events are dropped and counted.
+ */
+public class EventLog {
+
+    private static final String FILE_NAME = "events.ndjson";
+
+    /**
+     * Queued event; fields are alternating names and values
+     */
+    private record Entry(long timeMillis, String type, Object[] fields) {
+    }
+
+    private final ScarecrowBotPlugin plugin;
+    private final File directory;
+
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+
+    private volatile boolean enabled;
+    private volatile int capacity;
+    private volatile Thread worker;
+
+    private long maxFileBytes;
+    private long rotateMillis;
+    private long flushIntervalNanos;
+
+    // Writer thread only
+    private BufferedWriter writer;
+    private long fileBytes;
+    private long openedAtMillis;
+
+    public EventLog() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+        this.directory = new File(this.plugin.getDataFolder(), "logs");
+    }
+
+    /**
+     * Read settings and start the writer thread if the log is enabled
+     */
+    public void start() {
+        final FileConfiguration config = this.plugin.getConfig();
+        if (!config.getBoolean("eventLog.enabled", false) || this.enabled) {
+            return;
+        }
+
+        this.capacity = Math.max(1, config.getInt("eventLog.queueCapacity", 10000));
+        this.maxFileBytes = Math.max(1L, config.getLong("eventLog.maxFileSizeMb", 10L)) * 1024L * 1024L;
+        this.rotateMillis = TimeUnit.HOURS.toMillis(Math.max(0L, config.getLong("eventLog.rotateHours", 24L)));
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(50L, config.getLong("eventLog.flushIntervalMillis", 1000L)));
+
+        final Thread thread = new Thread(this::run, "ScarecrowBot-EventLog");
+        thread.setDaemon(true);
+        this.worker = thread;
+        this.enabled = true;
+        thread.start();
+    }
+
+    /**
+     * Stop the writer thread after writing everything still queued
+     */
+    public void stop() {
+        this.enabled = false;
+
+        final Thread thread = this.worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(5000L);
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            this.worker = null;
+        }
+    }
+
+    /**
+     * Check if the event log is enabled. Callers can skip building expensive fields when it isn't.
+     *
+     * @return True if events are recorded
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Queue an event. Never blocks; does nothing while the log is disabled.
+     *
+     * @param type   Event type, e.g. "damage"
+     * @param fields Alternating field names and values (strings, numbers, booleans; anything else is written as a string)
+     */
+    public void log(final String type, final Object... fields) {
+        if (!this.enabled) {
+            return;
+        }
+
+        // Reserve a slot, the writer frees it when the event is written
+        if (this.size.incrementAndGet() > this.capacity) {
+            this.size.decrementAndGet();
+            this.dropped.increment();
+            return;
+        }
+
+        this.queue.offer(new Entry(System.currentTimeMillis(), type, fields));
+    }
+
+    /**
+     * Get the number of events written to disk
+     *
+     * @return Written event count
+     */
+    public long getWrittenCount() {
+        return this.written.sum();
+    }
+
+    /**
+     * Get the number of events dropped because the queue was full
+     *
+     * @return Dropped event count
+     */
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+
+    private void run() {
+        try {
+            this.open();
+
+            while (this.enabled) {
+                LockSupport.parkNanos(this, this.flushIntervalNanos);
+                this.writeBatch();
+            }
+
+            this.writeBatch(); // Whatever was queued before stop()
+        } catch (final IOException exception) {
+            this.plugin.getLogger().severe("Event log stopped: " + exception.getMessage());
+            this.enabled = false;
+        } finally {
+            this.closeQuietly();
+            this.queue.clear();
+            this.size.set(0);
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        if (!this.queue.isEmpty()) {
+            Entry entry;
+            while ((entry = this.queue.poll()) != null) {
+                this.size.decrementAndGet();
+                this.fileBytes += this.writeEntry(entry);
+                this.written.increment();
+            }
+            this.writer.flush();
+        }
+
+        // Checked on idle runs too, so a quiet log still rotates by age
+        final boolean tooOld = this.rotateMillis > 0 && System.currentTimeMillis() - this.openedAtMillis >= this.rotateMillis;
+        if (this.fileBytes >= this.maxFileBytes || (tooOld && this.fileBytes > 0)) {
+            this.rotate();
+        } else if (tooOld) {
+            this.openedAtMillis = System.currentTimeMillis(); // Nothing to rotate yet
+        }
+    }
+
+    /**
+     * Serialize one event as a single line
+     *
+     * @return Approximate number of bytes written
+     */
+    private long writeEntry(final Entry entry) throws IOException {
+        final CountingWriter counting = new CountingWriter(this.writer);
+        final JsonWriter json = new JsonWriter(counting);
+        json.beginObject();
+        json.name("time").value(entry.timeMillis());
+        json.name("type").value(entry.type());
+
+        final Object[] fields = entry.fields();
+        for (int i = 0; i + 1 < fields.length; i += 2) {
+            json.name(String.valueOf(fields[i]));
+            final Object value = fields[i + 1];
+            if (value == null) {
+                json.nullValue();
+            } else if (value instanceof Number number) {
+                json.value(number);
+            } else if (value instanceof Boolean bool) {
+                json.value(bool);
+            } else {
+                json.value(value.toString());
+            }
+        }
+
+        json.endObject();
+        json.flush();
+        counting.write('\n');
+        return counting.count;
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(this.directory.toPath());
+        final File file = new File(this.directory, FILE_NAME);
+        this.writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.fileBytes = file.length();
+        this.openedAtMillis = System.currentTimeMillis();
+    }
+
+    private void rotate() throws IOException {
+        this.writer.close();
+
+        final File current = new File(this.directory, FILE_NAME);
+        final String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+
+        // Several rotations can fall in the same second (small maxFileBytes); never overwrite an archive
+        File rotated = new File(this.directory, "events-" + stamp + ".ndjson");
+        File compressed = new File(this.directory, rotated.getName() + ".gz");
+        for (int suffix = 1; rotated.exists() || compressed.exists(); suffix++) {
+            rotated = new File(this.directory, "events-" + stamp + "-" + suffix + ".ndjson");
+            compressed = new File(this.directory, rotated.getName() + ".gz");
+        }
+
+        if (current.renameTo(rotated)) {
+            try (InputStream in = Files.newInputStream(rotated.toPath());
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressed.toPath()))) {
+                in.transferTo(out);
+            }
+            Files.delete(rotated.toPath());
+        } else {
+            this.plugin.getLogger().warning("Failed to rotate event log " + current.getName());
+        }
+
+        this.open();
+    }
+
+    private void closeQuietly() {
+        if (this.writer == null) {
+            return;
+        }
+
+        try {
+            this.writer.close();
+        } catch (final IOException exception) {
+            this.plugin.getLogger().warning("Failed to close event log: " + exception.getMessage());
+        }
+        this.writer = null;
+    }
+
+    /**
+     * Counts the characters going through to the file writer (UTF-8 bytes for ASCII, close enough otherwise)
+     */
+    private static final class CountingWriter extends Writer {
+
+        private final Writer out;
+        private long count;
+
+        private CountingWriter(final Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(final char[] buffer, final int offset, final int length) throws IOException {
+            this.out.write(buffer, offset, length);
+            this.count += length;
+        }
+
+        @Override
+        public void write(final int character) throws IOException {
+            this.out.write(character);
+            this.count++;
+        }
+
+        @Override
+        public void write(final String string, final int offset, final int length) throws IOException {
+            this.out.write(string, offset, length);
+            this.count += length;
+        }
+
+        @Override
+        public void flush() {
+            // The batch flushes the file writer once
+        }
+
+        @Override
+        public void close() {
+            // Never closes the file writer
+        }
+    }
+}
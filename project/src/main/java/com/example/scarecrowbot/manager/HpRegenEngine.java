@@ -0,0 +1,119 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.model.Scarecrow;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Regenerates (or drains) the HP of every scarecrow from one repeating task.
+ * <p>
+ * Each run walks the {@link com.example.scarecrowbot.model.HpStore} arrays, which are the authoritative
+ * HP state, computing and writing new values over primitives only. Scarecrows whose HP changed are then
+ * rendered (snapshot, record, health, name) by a {@link JobScheduler} job, so a large step is spread over
+ * ticks; the next step waits until that job is done. Scarecrows at their bound (full HP for regen, min HP
+ * for decay), hit recently or unloaded are skipped.
+ */
+public class HpRegenEngine {
+
+    /**
+     * What happens to the HP of a scarecrow that hasn't been hit for a while
+     */
+    public enum Mode {
+        OFF,
+        REGEN,
+        DECAY
+    }
+
+    /**
+     * A scarecrow whose HP was stepped and still has to be rendered
+     *
+     * @param scarecrow Scarecrow
+     * @param previous  HP before the step
+     */
+    private record Stepped(Scarecrow scarecrow, double previous) {
+    }
+
+    private final ScarecrowBotPlugin plugin;
+    private final ScarecrowManager scarecrowManager;
+
+    @Getter
+    private volatile Mode mode = Mode.OFF;
+
+    /**
+     * Scarecrows whose HP changed in the last run
+     */
+    @Getter
+    private volatile int lastUpdated;
+
+    private double step;
+    private long idleMillis;
+    private double minHp;
+    private ScheduledTask task;
+    private JobScheduler.Job<Stepped> pendingRender;
+
+    public HpRegenEngine() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+        this.scarecrowManager = this.plugin.getScarecrowManager();
+    }
+
+    /**
+     * Read settings and start the update task unless the mode is OFF
+     */
+    public void start() {
+        final FileConfiguration config = this.plugin.getConfig();
+        try {
+            this.mode = Mode.valueOf(config.getString("scarecrow.regen.mode", "OFF").toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException exception) {
+            this.plugin.getLogger().warning("Unknown scarecrow.regen.mode, regeneration disabled");
+            this.mode = Mode.OFF;
+        }
+
+        if (this.mode == Mode.OFF) {
+            return;
+        }
+
+        final long intervalTicks = Math.max(1L, config.getLong("scarecrow.regen.intervalTicks", 20L));
+        this.step = config.getDouble("scarecrow.regen.amountPerSecond", 1.0) * intervalTicks / 20.0;
+        this.idleMillis = (long) (config.getDouble("scarecrow.regen.idleSeconds", 5.0) * 1000L);
+        this.minHp = config.getDouble("scarecrow.minHP", 1.0);
+
+        if (this.task == null) {
+            this.task = Bukkit.getGlobalRegionScheduler().runAtFixedRate(this.plugin, scheduled -> this.tick(),
+                    intervalTicks, intervalTicks);
+        }
+    }
+
+    /**
+     * Stop the update task
+     */
+    public void stop() {
+        this.mode = Mode.OFF;
+
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+    }
+
+    private void tick() {
+        final JobScheduler.Job<Stepped> previous = this.pendingRender;
+        if (previous != null && !previous.isDone()) {
+            return; // Still rendering the last step
+        }
+
+        final List<Stepped> stepped = new ArrayList<>();
+        final double delta = this.mode == Mode.REGEN ? this.step : -this.step;
+        this.lastUpdated = this.scarecrowManager.getHpStore().step(delta, this.minHp,
+                System.currentTimeMillis() - this.idleMillis, (scarecrow, hp) -> stepped.add(new Stepped(scarecrow, hp)));
+
+        this.pendingRender = stepped.isEmpty() ? null : this.plugin.getJobScheduler().submit("regen", stepped,
+                current -> this.scarecrowManager.onHpStepped(current.scarecrow(), current.previous()));
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Time-sliced runner for bulk work over many scarecrows (saving, bulk heal, ...).
+ * <p>
+ * Jobs are processed one item at a time on the global region thread until the per-tick budget
+ * ({@code scheduler.budgetMillis}) is used up, then resume on the next tick, so a job over hundreds of
+ * scarecrows is spread over several ticks instead of causing one long tick. Jobs run in submission
+ * order and every tick makes progress on at least one item.
+ * <p>
+ * Only work that belongs on the global region thread goes through here. File, database and network IO
+ * (event log, leaderboard, sync) stays on its own async tasks, and per-player work (visibility culling)
+ * runs on each player's scheduler, rate-limited by its own batch size.
+ */
+public class JobScheduler {
+
+    private final ScarecrowBotPlugin plugin;
+    private final Queue<Job<?>> jobs = new ConcurrentLinkedQueue<>();
+
+    private volatile long budgetNanos;
+    private ScheduledTask tickTask;
+
+    /**
+     * A submitted bulk job. Progress can be read from any thread.
+     *
+     * @param <T> Item type
+     */
+    public static final class Job<T> {
+
+        @Getter
+        private final String name;
+
+        private final List<T> items;
+        private final Consumer<T> action;
+
+        /**
+         * Completed once every item has been processed
+         */
+        @Getter
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private volatile int processed;
+
+        private Job(final String name, final List<T> items, final Consumer<T> action) {
+            this.name = name;
+            this.items = items;
+            this.action = action;
+        }
+
+        /**
+         * Get the number of processed items
+         *
+         * @return Processed items
+         */
+        public int getProcessed() {
+            return this.processed;
+        }
+
+        /**
+         * Get the total number of items
+         *
+         * @return Total items
+         */
+        public int getTotal() {
+            return this.items.size();
+        }
+
+        /**
+         * Check if the job has started processing
+         *
+         * @return True if at least one item was processed
+         */
+        public boolean isStarted() {
+            return this.processed > 0;
+        }
+
+        /**
+         * Check if the job is done
+         *
+         * @return True if every item was processed
+         */
+        public boolean isDone() {
+            return this.processed >= this.items.size();
+        }
+
+        /**
+         * Process the next item
+         *
+         * @return True if the job is done
+         */
+        private boolean step(final ScarecrowBotPlugin plugin) {
+            if (this.isDone()) {
+                return true;
+            }
+
+            final int index = this.processed;
+            try {
+                this.action.accept(this.items.get(index));
+            } catch (final RuntimeException exception) {
+                plugin.getLogger().warning("Job '" + this.name + "' failed on item " + index + ": " + exception.getMessage());
+            }
+            this.processed = index + 1;
+
+            if (this.isDone()) {
+                this.completion.complete(null);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public JobScheduler() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+    }
+
+    /**
+     * Read settings and start the tick task
+     */
+    public void start() {
+        this.budgetNanos = (long) (Math.max(0.1, this.plugin.getConfig().getDouble("scheduler.budgetMillis", 2.0)) * 1_000_000L);
+
+        if (this.tickTask == null) {
+            this.tickTask = Bukkit.getGlobalRegionScheduler().runAtFixedRate(this.plugin, task -> this.tick(), 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop the tick task and finish every pending job right away (plugin shutdown)
+     */
+    public void stop() {
+        if (this.tickTask != null) {
+            this.tickTask.cancel();
+            this.tickTask = null;
+        }
+
+        this.drain();
+    }
+
+    /**
+     * Submit a bulk job. The items are copied, so later changes to the collection don't affect the job.
+     * While the scheduler is stopped (startup, shutdown) the job runs immediately on the calling thread.
+     *
+     * @param name   Job name, shown in progress reports
+     * @param items  Items to process
+     * @param action Action run for each item on the global region thread
+     * @param <T>    Item type
+     * @return Submitted job
+     */
+    public <T> Job<T> submit(final String name, final Collection<T> items, final Consumer<T> action) {
+        final Job<T> job = new Job<>(name, List.copyOf(items), action);
+
+        if (job.isDone()) {
+            job.completion.complete(null); // Nothing to do
+            return job;
+        }
+
+        this.jobs.add(job);
+        if (this.tickTask == null) {
+            this.drain();
+        }
+        return job;
+    }
+
+    /**
+     * Get the jobs that are still running or waiting
+     *
+     * @return Pending jobs in submission order
+     */
+    public List<Job<?>> getJobs() {
+        return new ArrayList<>(this.jobs);
+    }
+
+    private void tick() {
+        final long deadline = System.nanoTime() + this.budgetNanos;
+
+        Job<?> job;
+        while ((job = this.jobs.peek()) != null) {
+            if (job.step(this.plugin)) {
+                this.jobs.remove(job);
+            }
+
+            if (System.nanoTime() >= deadline) {
+                return; // Budget used up, resume next tick
+            }
+        }
+    }
+
+    private void drain() {
+        Job<?> job;
+        while ((job = this.jobs.peek()) != null) {
+            while (!job.step(this.plugin)) {
+                // Run to completion
+            }
+            this.jobs.remove(job);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.model.DamageStats;
+import com.example.scarecrowbot.util.TopK;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-player damage leaderboards (total damage, best hit, best DPS), all time and for today.
+ * <p>
+ * Everything is kept in memory: each hit updates the player's stats and the incremental top-K lists
+ * under one short lock, and {@code /scarecrow top} only reads those lists. Changed stats are queued and
+ * written in one transaction to {@code leaderboard.db} (SQLite, bundled with the server) by an async task.
+ */
+public class LeaderboardManager {
+
+    private static final String ALL_TIME = "all";
+
+    /**
+     * Ranked statistic
+     */
+    public enum Metric {
+        DAMAGE,
+        HIT,
+        DPS
+    }
+
+    /**
+     * Copy of changed stats, written by the flush task
+     */
+    private record Row(String period, UUID playerId, String playerName, double totalDamage, double bestHit, double bestDps) {
+    }
+
+    private final ScarecrowBotPlugin plugin;
+    private final File databaseFile;
+    private final Object lock = new Object();
+
+    // Guarded by lock
+    private final Map<UUID, DamageStats> allTime = new HashMap<>();
+    private final Map<UUID, DamageStats> today = new HashMap<>();
+    private final Map<Metric, TopK> allTimeTop = new EnumMap<>(Metric.class);
+    private final Map<Metric, TopK> todayTop = new EnumMap<>(Metric.class);
+    private List<DamageStats> dirty = new ArrayList<>();
+    private String todayKey;
+
+    private volatile boolean enabled;
+    private long windowMillis;
+    private ScheduledTask flushTask;
+
+    // Flush task only
+    private Connection connection;
+
+    public LeaderboardManager() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+        this.databaseFile = new File(this.plugin.getDataFolder(), "leaderboard.db");
+    }
+
+    /**
+     * Open the database, load the all-time and today's stats and start the flush task
+     */
+    public void start() {
+        final FileConfiguration config = this.plugin.getConfig();
+        if (!config.getBoolean("leaderboard.enabled", true) || this.enabled) {
+            return;
+        }
+
+        final int size = Math.max(1, config.getInt("leaderboard.size", 10));
+        this.windowMillis = Math.max(1000L, (long) (config.getDouble("leaderboard.dpsWindowSeconds", 5.0) * 1000L));
+
+        synchronized (this.lock) {
+            for (final Metric metric : Metric.values()) {
+                this.allTimeTop.put(metric, new TopK(size));
+                this.todayTop.put(metric, new TopK(size));
+            }
+            this.todayKey = LocalDate.now().toString();
+        }
+
+        try {
+            this.openDatabase();
+            this.load(ALL_TIME, this.allTime, this.allTimeTop);
+            this.load(this.todayKey, this.today, this.todayTop);
+        } catch (final SQLException exception) {
+            this.plugin.getLogger().severe("Failed to open leaderboard database: " + exception.getMessage());
+            this.closeDatabase();
+            return;
+        }
+
+        final long flushSeconds = Math.max(1L, config.getLong("leaderboard.flushIntervalSeconds", 30L));
+        this.flushTask = Bukkit.getAsyncScheduler().runAtFixedRate(this.plugin, task -> this.flush(),
+                flushSeconds, flushSeconds, TimeUnit.SECONDS);
+        this.enabled = true;
+    }
+
+    /**
+     * Stop the flush task, write pending changes and close the database
+     */
+    public void stop() {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.enabled = false;
+        if (this.flushTask != null) {
+            this.flushTask.cancel();
+            this.flushTask = null;
+        }
+
+        this.flush();
+        this.closeDatabase();
+    }
+
+    /**
+     * Check if leaderboards are enabled
+     *
+     * @return True if hits are recorded
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Record a hit on a scarecrow. Cheap enough for the damage path: a map lookup and a few top-K updates.
+     *
+     * @param player Attacking player
+     * @param damage Damage dealt
+     */
+    public void record(final Player player, final double damage) {
+        if (!this.enabled || damage <= 0.0) {
+            return;
+        }
+
+        final UUID playerId = player.getUniqueId();
+        final String name = player.getName();
+        final long now = System.currentTimeMillis();
+
+        synchronized (this.lock) {
+            this.rollOverDay();
+            this.record(this.allTime, this.allTimeTop, ALL_TIME, playerId, name, damage, now);
+            this.record(this.today, this.todayTop, this.todayKey, playerId, name, damage, now);
+        }
+    }
+
+    /**
+     * Get a leaderboard from memory
+     *
+     * @param metric  Ranked statistic
+     * @param allTime True for all time, false for today
+     * @return Entries, best first
+     */
+    public List<TopK.Entry> getTop(final Metric metric, final boolean allTime) {
+        synchronized (this.lock) {
+            this.rollOverDay();
+            return (allTime ? this.allTimeTop : this.todayTop).get(metric).entries();
+        }
+    }
+
+    private void record(final Map<UUID, DamageStats> stats, final Map<Metric, TopK> top, final String period,
+                        final UUID playerId, final String name, final double damage, final long now) {
+        final DamageStats playerStats = stats.computeIfAbsent(playerId, id -> new DamageStats(period, id, name, 0.0, 0.0, 0.0));
+        if (playerStats.record(name, damage, now, this.windowMillis)) {
+            this.dirty.add(playerStats);
+        }
+
+        this.offer(top, playerStats);
+    }
+
+    private void offer(final Map<Metric, TopK> top, final DamageStats stats) {
+        top.get(Metric.DAMAGE).offer(stats.getPlayerId(), stats.getPlayerName(), stats.getTotalDamage());
+        top.get(Metric.HIT).offer(stats.getPlayerId(), stats.getPlayerName(), stats.getBestHit());
+        top.get(Metric.DPS).offer(stats.getPlayerId(), stats.getPlayerName(), stats.getBestDps());
+    }
+
+    /**
+     * Start a fresh daily board at midnight; yesterday's changes are still queued and get flushed.
+     * Must hold the lock.
+     */
+    private void rollOverDay() {
+        final String currentDay = LocalDate.now().toString();
+        if (currentDay.equals(this.todayKey)) {
+            return;
+        }
+
+        this.todayKey = currentDay;
+        this.today.clear();
+        for (final TopK top : this.todayTop.values()) {
+            top.clear();
+        }
+    }
+
+    private void flush() {
+        final List<DamageStats> changed;
+        final List<Row> rows = new ArrayList<>();
+
+        synchronized (this.lock) {
+            if (this.dirty.isEmpty()) {
+                return;
+            }
+
+            changed = this.dirty;
+            this.dirty = new ArrayList<>();
+            for (final DamageStats stats : changed) {
+                rows.add(new Row(stats.getPeriod(), stats.getPlayerId(), stats.getPlayerName(),
+                        stats.getTotalDamage(), stats.getBestHit(), stats.getBestDps()));
+                stats.markClean();
+            }
+        }
+
+        if (!this.write(rows)) {
+            // Queue them again; the next flush writes their values as they are by then
+            synchronized (this.lock) {
+                for (final DamageStats stats : changed) {
+                    if (stats.markDirty()) {
+                        this.dirty.add(stats);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Write rows in one transaction
+     *
+     * @return True if they were saved
+     */
+    private synchronized boolean write(final List<Row> rows) {
+        if (this.connection == null) {
+            return false;
+        }
+
+        final String sql = "INSERT INTO damage_stats (period, player, name, total_damage, best_hit, best_dps) VALUES (?, ?, ?, ?, ?, ?) "
+                + "ON CONFLICT(period, player) DO UPDATE SET name = excluded.name, total_damage = excluded.total_damage, "
+                + "best_hit = excluded.best_hit, best_dps = excluded.best_dps";
+
+        try (PreparedStatement statement = this.connection.prepareStatement(sql)) {
+            for (final Row row : rows) {
+                statement.setString(1, row.period());
+                statement.setString(2, row.playerId().toString());
+                statement.setString(3, row.playerName());
+                statement.setDouble(4, row.totalDamage());
+                statement.setDouble(5, row.bestHit());
+                statement.setDouble(6, row.bestDps());
+                statement.addBatch();
+            }
+
+            statement.executeBatch();
+            this.connection.commit();
+            return true;
+        } catch (final SQLException exception) {
+            this.plugin.getLogger().severe("Failed to save " + rows.size() + " leaderboard row(s): " + exception.getMessage());
+            try {
+                this.connection.rollback();
+            } catch (final SQLException rollbackException) {
+                this.plugin.getLogger().warning("Leaderboard rollback failed: " + rollbackException.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private synchronized void openDatabase() throws SQLException {
+        this.plugin.getDataFolder().mkdirs();
+        this.connection = DriverManager.getConnection("jdbc:sqlite:" + this.databaseFile.getAbsolutePath());
+
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("CREATE TABLE IF NOT EXISTS damage_stats ("
+                    + "period TEXT NOT NULL, player TEXT NOT NULL, name TEXT NOT NULL, "
+                    + "total_damage REAL NOT NULL, best_hit REAL NOT NULL, best_dps REAL NOT NULL, "
+                    + "PRIMARY KEY (period, player))");
+        }
+
+        this.connection.setAutoCommit(false);
+    }
+
+    private synchronized void load(final String period, final Map<UUID, DamageStats> stats, final Map<Metric, TopK> top) throws SQLException {
+        try (PreparedStatement statement = this.connection.prepareStatement(
+                "SELECT player, name, total_damage, best_hit, best_dps FROM damage_stats WHERE period = ?")) {
+            statement.setString(1, period);
+
+            try (ResultSet result = statement.executeQuery()) {
+                synchronized (this.lock) {
+                    while (result.next()) {
+                        final UUID playerId = UUID.fromString(result.getString(1));
+                        final DamageStats playerStats = new DamageStats(period, playerId, result.getString(2),
+                                result.getDouble(3), result.getDouble(4), result.getDouble(5));
+                        stats.put(playerId, playerStats);
+                        this.offer(top, playerStats);
+                    }
+                }
+            }
+        }
+        this.connection.commit();
+    }
+
+    private synchronized void closeDatabase() {
+        if (this.connection == null) {
+            return;
+        }
+
+        try {
+            this.connection.close();
+        } catch (final SQLException exception) {
+            this.plugin.getLogger().warning("Failed to close leaderboard database: " + exception.getMessage());
+        }
+        this.connection = null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes player positions every tick so async code (chat) can do distance checks.
+ * <p>
+ * Each player's position is written by the thread that owns the player (the main thread on Paper, the
+ * player's region thread on Folia) as an immutable record. Async readers just read the latest record:
+ * no locks, and no blocking hop to the main thread. A position is at most one tick old.
+ */
+public class PositionSnapshotManager {
+
+    /**
+     * Player position at the end of a tick
+     */
+    public record Position(UUID worldId, double x, double y, double z) {
+    }
+
+    private final ScarecrowBotPlugin plugin;
+
+    private final Map<UUID, Position> positions = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled;
+
+    public PositionSnapshotManager() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+    }
+
+    /**
+     * Start tracking online players if proximity chat is enabled
+     */
+    public void start() {
+        final FileConfiguration config = this.plugin.getConfig();
+        this.enabled = config.getBoolean("bot.proximity.enabled", false);
+        if (!this.enabled) {
+            return;
+        }
+
+        for (final Player player : Bukkit.getOnlinePlayers()) {
+            this.track(player);
+        }
+    }
+
+    /**
+     * Stop publishing positions (tracking tasks retire on their next run)
+     */
+    public void stop() {
+        this.enabled = false;
+        this.positions.clear();
+    }
+
+    /**
+     * Start publishing a player's position every tick on the player's own scheduler
+     *
+     * @param player Player to track
+     */
+    public void track(final Player player) {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.publish(player);
+        player.getScheduler().runAtFixedRate(this.plugin, task -> {
+            if (!this.enabled) {
+                task.cancel();
+                return;
+            }
+
+            this.publish(player);
+        }, () -> this.positions.remove(player.getUniqueId()), 1L, 1L);
+    }
+
+    /**
+     * Forget a player that logged out
+     *
+     * @param player Player who quit
+     */
+    public void forget(final Player player) {
+        this.positions.remove(player.getUniqueId());
+    }
+
+    /**
+     * Get the last published position of a player (safe from any thread)
+     *
+     * @param playerUuid Player UUID
+     * @return Position, or null if the player is not tracked
+     */
+    public Position getPosition(final UUID playerUuid) {
+        return this.positions.get(playerUuid);
+    }
+
+    /**
+     * Check if positions are being published
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    private void publish(final Player player) {
+        final Location location = player.getLocation();
+        this.positions.put(player.getUniqueId(),
+                new Position(location.getWorld().getUID(), location.getX(), location.getY(), location.getZ()));
+    }
+}
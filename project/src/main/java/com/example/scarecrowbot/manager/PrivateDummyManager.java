@@ -0,0 +1,443 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.model.PrivateDummy;
+import com.example.scarecrowbot.util.PDCKeys;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Zombie;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Per-player private training dummies, served from a fixed-size entity pool.
+ * <p>
+ * Pooled entities are invisible by default and only shown to their owner, so each player hits their own
+ * dummy with its own HP. Summoning claims a free slot and teleports and resets its entity; dismissing
+ * (or logging out, or idling) hides it and frees the slot without removing the entity. New entities are
+ * only spawned while the pool is still filling up or after a pooled entity was unloaded with its chunk,
+ * so the number of dummy entities never exceeds {@code privateDummies.poolSize}.
+ */
+public class PrivateDummyManager {
+
+    private static final long SWEEP_PERIOD_SECONDS = 10L;
+
+    private final ScarecrowBotPlugin plugin;
+
+    private final Map<UUID, PrivateDummy> byOwner = new ConcurrentHashMap<>();
+    private final Map<UUID, PrivateDummy> byEntity = new ConcurrentHashMap<>();
+    private volatile PrivateDummy[] pool = new PrivateDummy[0];
+
+    private final AtomicLong spawnCount = new AtomicLong();
+    private final AtomicLong reuseCount = new AtomicLong();
+
+    @Getter
+    private volatile boolean enabled;
+    private volatile EntityType entityType;
+    private volatile double maxHp;
+    private volatile double minHp;
+    private volatile long idleMillis;
+    private volatile String nameFormat;
+
+    private ScheduledTask sweepTask;
+
+    public PrivateDummyManager() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+    }
+
+    /**
+     * Read settings, create the (empty) pool and start releasing idle dummies
+     */
+    public void start() {
+        final FileConfiguration config = this.plugin.getConfig();
+        this.enabled = config.getBoolean("privateDummies.enabled", false);
+        if (!this.enabled) {
+            return;
+        }
+
+        EntityType type;
+        try {
+            type = EntityType.valueOf(config.getString("privateDummies.entityType", "VILLAGER").toUpperCase());
+        } catch (final IllegalArgumentException exception) {
+            type = EntityType.VILLAGER;
+        }
+        if (type.getEntityClass() == null || !LivingEntity.class.isAssignableFrom(type.getEntityClass())) {
+            this.plugin.getLogger().warning("Private dummy entity type must be a living entity, using VILLAGER");
+            type = EntityType.VILLAGER;
+        }
+        this.entityType = type;
+
+        this.maxHp = config.getDouble("privateDummies.maxHP", config.getDouble("scarecrow.maxHP", 100.0));
+        this.minHp = config.getDouble("scarecrow.minHP", 1.0);
+        this.idleMillis = TimeUnit.SECONDS.toMillis(Math.max(0L, config.getLong("privateDummies.idleSeconds", 300L)));
+        this.nameFormat = config.getString("privateDummies.nameFormat", "{player}'s dummy §c[HP {hp}/{maxHp}]");
+
+        final int poolSize = Math.max(1, config.getInt("privateDummies.poolSize", 20));
+        final PrivateDummy[] slots = new PrivateDummy[poolSize];
+        for (int slot = 0; slot < poolSize; slot++) {
+            slots[slot] = new PrivateDummy(slot);
+        }
+        this.pool = slots;
+
+        if (this.sweepTask == null && this.idleMillis > 0) {
+            this.sweepTask = Bukkit.getAsyncScheduler().runAtFixedRate(this.plugin, task -> this.releaseIdle(),
+                    SWEEP_PERIOD_SECONDS, SWEEP_PERIOD_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stop the sweep task and remove every pooled entity
+     */
+    public void stop() {
+        this.enabled = false;
+
+        if (this.sweepTask != null) {
+            this.sweepTask.cancel();
+            this.sweepTask = null;
+        }
+
+        for (final PrivateDummy dummy : this.pool) {
+            final LivingEntity entity = dummy.getEntity();
+            if (entity != null) {
+                this.runOnEntity(entity, Entity::remove);
+            }
+        }
+
+        this.pool = new PrivateDummy[0];
+        this.byOwner.clear();
+        this.byEntity.clear();
+    }
+
+    /**
+     * Summon the player's private dummy at their location, claiming a pool slot if they have none yet.
+     * A player who already has a dummy gets it moved back to them with full HP.
+     *
+     * @param player Player
+     * @return Future completed with true once the dummy is in place, false if the pool is exhausted
+     */
+    public CompletableFuture<Boolean> summon(final Player player) {
+        if (!this.enabled) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        final PrivateDummy dummy = this.claim(player);
+        if (dummy == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        dummy.touch();
+        final Location location = player.getLocation();
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        final LivingEntity pooled = dummy.getEntity();
+
+        if (!dummy.hasEntity()) {
+            this.spawnInto(dummy, player, location, result);
+            return result;
+        }
+
+        // Reuse the pooled entity; if it is removed before the task runs, spawn a replacement
+        pooled.getScheduler().execute(this.plugin, () -> pooled.teleportAsync(location).thenAccept(success -> {
+            if (!success) {
+                result.complete(false);
+                return;
+            }
+
+            this.reuseCount.incrementAndGet();
+            this.reset(dummy, pooled);
+            this.showTo(player, pooled);
+            result.complete(true);
+        }), () -> this.spawnInto(dummy, player, location, result), 1L);
+
+        return result;
+    }
+
+    /**
+     * Release the player's private dummy back into the pool
+     *
+     * @param player Player
+     * @return True if the player had a dummy
+     */
+    public boolean dismiss(final Player player) {
+        final PrivateDummy dummy = this.byOwner.get(player.getUniqueId());
+        if (dummy == null) {
+            return false;
+        }
+
+        this.release(dummy);
+        return true;
+    }
+
+    /**
+     * Release the dummy of a player who logged out (hidden entities are not kept across logins)
+     *
+     * @param playerId Player UUID
+     */
+    public void forget(final UUID playerId) {
+        final PrivateDummy dummy = this.byOwner.get(playerId);
+        if (dummy != null) {
+            this.release(dummy);
+        }
+    }
+
+    /**
+     * Get the dummy slot an entity belongs to
+     *
+     * @param entity Entity
+     * @return Dummy, or null if the entity is not a pooled dummy
+     */
+    public PrivateDummy getDummy(final Entity entity) {
+        return this.byEntity.get(entity.getUniqueId());
+    }
+
+    /**
+     * Check if an entity is a pooled dummy, including ones left over from a previous plugin instance
+     *
+     * @param entity Entity
+     * @return True if it is a private dummy entity
+     */
+    public boolean isDummy(final Entity entity) {
+        return this.byEntity.containsKey(entity.getUniqueId())
+                || entity.getPersistentDataContainer().has(PDCKeys.PRIVATE_DUMMY, PersistentDataType.BYTE);
+    }
+
+    /**
+     * Apply a hit from the dummy's owner. Must be called on the entity's thread.
+     *
+     * @param dummy  Dummy that was hit
+     * @param amount Damage amount
+     * @return HP after the hit
+     */
+    public double damage(final PrivateDummy dummy, final double amount) {
+        final double newHp = Math.max(this.minHp, dummy.getCurrentHp() - amount);
+        dummy.setCurrentHp(newHp);
+        dummy.touch();
+
+        final LivingEntity entity = dummy.getEntity();
+        if (entity != null) {
+            this.renderName(dummy, entity);
+        }
+
+        return newHp;
+    }
+
+    /**
+     * Get the number of dummies currently claimed
+     *
+     * @return Claimed dummies
+     */
+    public int getClaimedCount() {
+        return this.byOwner.size();
+    }
+
+    /**
+     * Get the pool size
+     *
+     * @return Maximum number of dummies
+     */
+    public int getPoolSize() {
+        return this.pool.length;
+    }
+
+    /**
+     * Get the number of entities spawned for the pool since startup
+     *
+     * @return Spawned entities
+     */
+    public long getSpawnCount() {
+        return this.spawnCount.get();
+    }
+
+    /**
+     * Get the number of summons served by an already pooled entity
+     *
+     * @return Reused entities
+     */
+    public long getReuseCount() {
+        return this.reuseCount.get();
+    }
+
+    /**
+     * Claim a slot for a player: their current one, else a free slot with a live entity, else any free slot
+     */
+    private synchronized PrivateDummy claim(final Player player) {
+        final PrivateDummy current = this.byOwner.get(player.getUniqueId());
+        if (current != null) {
+            return current;
+        }
+
+        PrivateDummy free = null;
+        for (final PrivateDummy dummy : this.pool) {
+            if (dummy.isClaimed()) {
+                continue;
+            }
+            if (dummy.hasEntity()) {
+                free = dummy;
+                break;
+            }
+            if (free == null) {
+                free = dummy;
+            }
+        }
+
+        if (free == null) {
+            return null;
+        }
+
+        free.setOwner(player.getUniqueId());
+        free.setOwnerName(player.getName());
+        free.setMaxHp(this.maxHp);
+        free.setCurrentHp(this.maxHp);
+        this.byOwner.put(player.getUniqueId(), free);
+        return free;
+    }
+
+    private void release(final PrivateDummy dummy) {
+        final UUID owner;
+        synchronized (this) {
+            owner = dummy.getOwner();
+            if (owner == null) {
+                return;
+            }
+            this.byOwner.remove(owner, dummy);
+            dummy.setOwner(null);
+            dummy.setOwnerName(null);
+        }
+
+        final LivingEntity entity = dummy.getEntity();
+        if (entity == null) {
+            return;
+        }
+
+        // The entity stays where it is, invisible to everyone, until the next claim
+        final Player player = Bukkit.getPlayer(owner);
+        if (player != null) {
+            player.getScheduler().run(this.plugin, task -> player.hideEntity(this.plugin, entity), null);
+        }
+        this.runOnEntity(entity, released -> released.customName(null));
+    }
+
+    private void releaseIdle() {
+        final long now = System.currentTimeMillis();
+        for (final PrivateDummy dummy : this.pool) {
+            if (!dummy.isClaimed()) {
+                continue;
+            }
+
+            final Player owner = Bukkit.getPlayer(dummy.getOwner());
+            if (owner == null || now - dummy.getLastUsedMillis() > this.idleMillis) {
+                this.release(dummy);
+            }
+        }
+    }
+
+    /**
+     * Spawn a new entity for a slot whose pooled entity is missing, on the region owning the location
+     */
+    private void spawnInto(final PrivateDummy dummy, final Player player, final Location location,
+                           final CompletableFuture<Boolean> result) {
+        Bukkit.getRegionScheduler().execute(this.plugin, location, () -> {
+            final LivingEntity previous = dummy.getEntity();
+            if (previous != null) {
+                this.byEntity.remove(previous.getUniqueId());
+            }
+
+            final LivingEntity spawned = this.spawn(location);
+            if (spawned == null) {
+                this.release(dummy);
+                result.complete(false);
+                return;
+            }
+
+            this.spawnCount.incrementAndGet();
+            dummy.setEntity(spawned);
+            this.byEntity.put(spawned.getUniqueId(), dummy);
+            this.reset(dummy, spawned);
+            this.showTo(player, spawned);
+            result.complete(true);
+        });
+    }
+
+    private LivingEntity spawn(final Location location) {
+        final World world = location.getWorld();
+        final Class<? extends Entity> entityClass = this.entityType.getEntityClass();
+        if (world == null || entityClass == null) {
+            return null;
+        }
+
+        return world.spawn(location, entityClass.asSubclass(LivingEntity.class), entity -> {
+            // Hidden before the first tick, so no other player ever receives the spawn
+            entity.setVisibleByDefault(false);
+            entity.setPersistent(false);
+            entity.setRemoveWhenFarAway(false);
+            entity.setAI(false);
+            entity.setSilent(true);
+            // Players who can't see the dummy must not bump into it
+            entity.setCollidable(false);
+            entity.setCustomNameVisible(true);
+            entity.getPersistentDataContainer().set(PDCKeys.PRIVATE_DUMMY, PersistentDataType.BYTE, (byte) 1);
+
+            if (entity instanceof Zombie zombie) {
+                zombie.setShouldBurnInDay(false);
+            }
+        });
+    }
+
+    /**
+     * Reset a dummy for a new use: full HP, no fire or motion, fresh name. Must be called on the entity's thread.
+     */
+    private void reset(final PrivateDummy dummy, final LivingEntity entity) {
+        final double dummyMaxHp = dummy.getMaxHp();
+        final AttributeInstance maxHealthAttribute = entity.getAttribute(Attribute.GENERIC_MAX_HEALTH);
+        if (maxHealthAttribute != null) {
+            maxHealthAttribute.setBaseValue(dummyMaxHp);
+        }
+        entity.setHealth(maxHealthAttribute != null ? maxHealthAttribute.getValue() : entity.getHealth());
+        entity.setFireTicks(0);
+        entity.setVelocity(entity.getVelocity().zero());
+        dummy.setCurrentHp(dummyMaxHp);
+        this.renderName(dummy, entity);
+    }
+
+    private void renderName(final PrivateDummy dummy, final LivingEntity entity) {
+        final String ownerName = dummy.getOwnerName();
+        if (ownerName == null) {
+            return;
+        }
+
+        entity.customName(Component.text(this.nameFormat
+                .replace("{player}", ownerName)
+                .replace("{hp}", String.format("%.1f", dummy.getCurrentHp()))
+                .replace("{maxHp}", String.format("%.1f", dummy.getMaxHp()))));
+    }
+
+    private void showTo(final Player player, final LivingEntity entity) {
+        player.getScheduler().run(this.plugin, task -> player.showEntity(this.plugin, entity), null);
+    }
+
+    private void runOnEntity(final Entity entity, final Consumer<Entity> action) {
+        if (Bukkit.isOwnedByCurrentRegion(entity)) {
+            action.accept(entity);
+            return;
+        }
+
+        entity.getScheduler().run(this.plugin, task -> action.accept(entity), null);
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.reply.ReplyProvider;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hot reload of config.yml (/scarecrow reload).
+ * <p>
+ * The file is read and parsed on an async thread and diffed against the current settings key by key.
+ * Only state derived from changed keys is rebuilt (keyword matchers, reply pools, the provider chain,
+ * the regen, visibility and position lock tasks, nameplates), and everything that can be compiled ahead
+ * is compiled on the async thread too. The new config and the compiled state are then published together
+ * in one global region task. Scarecrow entities, HP, cooldowns and conversations are left alone.
+ */
+public class ReloadManager {
+
+    /**
+     * Groups of settings that are cached somewhere and need more than the config swap to take effect
+     */
+    private enum Area {
+        REPLY_CHAIN("reply provider chain", true, "bot.providers"),
+        NAMES("nameplates", true, "scarecrow.nameHpFormat", "scarecrow.showHpInName", "scarecrow.visibleName"),
+        REGEN("regeneration", true, "scarecrow.regen", "scarecrow.minHP"),
+        POSITION_LOCK("position lock", true, "scarecrow.lockToGround"),
+        VISIBILITY("visibility culling", true, "visibility"),
+        SCHEDULER("job scheduler", true, "scheduler"),
+        VISIBILITY_TOGGLE("visibility.enabled", false, "visibility.enabled"),
+        CHAT_QUEUE("bot.queue", false, "bot.queue"),
+        MEMORY("bot.memory", false, "bot.memory"),
+        GENERATOR("bot.generator", false, "bot.generator"),
+        PROXIMITY("bot.proximity", false, "bot.proximity"),
+        EVENT_LOG("eventLog", false, "eventLog"),
+        LEADERBOARD("leaderboard", false, "leaderboard"),
+        PRIVATE_DUMMIES("privateDummies", false, "privateDummies"),
+        SYNC("sync", false, "sync"),
+        DEGRADATION("tick pressure levels", true, "degradation");
+
+        private final String label;
+        private final boolean hot;
+        private final String[] paths;
+
+        Area(final String label, final boolean hot, final String... paths) {
+            this.label = label;
+            this.hot = hot;
+            this.paths = paths;
+        }
+
+        boolean matches(final String key) {
+            return matchesAny(key, List.of(this.paths));
+        }
+    }
+
+    /**
+     * Outcome of a reload
+     *
+     * @param changed         Number of changed settings
+     * @param applied         Parts that were rebuilt
+     * @param restartRequired Changed settings that only take effect after a restart
+     * @param error           Error message if the reload failed (nothing was changed), else null
+     */
+    public record Result(int changed, List<String> applied, List<String> restartRequired, String error) {
+    }
+
+    private final ScarecrowBotPlugin plugin;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ReloadManager() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+    }
+
+    /**
+     * Reload config.yml
+     *
+     * @return Future completed on the global region thread once the new settings are live
+     */
+    public CompletableFuture<Result> reload() {
+        if (!this.running.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(new Result(0, List.of(), List.of(), "A reload is already running."));
+        }
+
+        final CompletableFuture<Result> result = new CompletableFuture<>();
+        result.whenComplete((done, throwable) -> this.running.set(false));
+
+        Bukkit.getAsyncScheduler().runNow(this.plugin, task -> {
+            try {
+                this.prepare(result);
+            } catch (final IOException | InvalidConfigurationException exception) {
+                result.complete(new Result(0, List.of(), List.of(), "Failed to read config.yml: " + exception.getMessage()));
+            } catch (final RuntimeException exception) {
+                result.completeExceptionally(exception);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Parse, diff and compile on the async thread, then hand the commit to the global region thread
+     */
+    private void prepare(final CompletableFuture<Result> result) throws IOException, InvalidConfigurationException {
+        final FileConfiguration current = this.plugin.getConfig();
+        final FileConfiguration loaded = this.load();
+
+        final Set<String> changed = diff(current, loaded);
+        if (changed.isEmpty()) {
+            result.complete(new Result(0, List.of(), List.of(), null));
+            return;
+        }
+
+        final Set<Area> areas = EnumSet.noneOf(Area.class);
+        for (final String key : changed) {
+            for (final Area area : Area.values()) {
+                if (area.matches(key)) {
+                    areas.add(area);
+                }
+            }
+        }
+        if (areas.contains(Area.VISIBILITY_TOGGLE)) {
+            areas.remove(Area.VISIBILITY); // Hidden entities are only restored on restart
+        }
+
+        final List<String> applied = new ArrayList<>();
+        final List<String> restartRequired = new ArrayList<>();
+        for (final Area area : areas) {
+            (area.hot ? applied : restartRequired).add(area.label);
+        }
+
+        // Compile matchers and reply pools now, publish them with the config
+        final List<ReplyProvider> rebuilt = new ArrayList<>();
+        for (final ReplyProvider provider : this.plugin.getReplyService().getProviders()) {
+            if (changed.stream().anyMatch(key -> matchesAny(key, provider.getConfigPaths()))) {
+                rebuilt.add(provider);
+                applied.add(provider.getName() + " replies");
+            }
+        }
+        final Runnable replyCommit = this.plugin.getReplyService().prepareReload(loaded, rebuilt::contains);
+
+        Bukkit.getGlobalRegionScheduler().execute(this.plugin, () -> {
+            try {
+                this.commit(loaded, areas, replyCommit);
+                result.complete(new Result(changed.size(), List.copyOf(applied), List.copyOf(restartRequired), null));
+            } catch (final RuntimeException exception) {
+                result.completeExceptionally(exception);
+            }
+        });
+    }
+
+    /**
+     * Publish the new settings and restart what depends on them (global region thread)
+     */
+    private void commit(final FileConfiguration loaded, final Set<Area> areas, final Runnable replyCommit) {
+        this.plugin.swapConfig(loaded);
+        replyCommit.run();
+
+        if (areas.contains(Area.SCHEDULER)) {
+            this.plugin.getJobScheduler().start();
+        }
+
+        if (areas.contains(Area.REGEN)) {
+            this.plugin.getHpRegenEngine().stop();
+            this.plugin.getHpRegenEngine().start();
+        }
+
+        if (areas.contains(Area.DEGRADATION)) {
+            this.plugin.getDegradationManager().stop();
+            this.plugin.getDegradationManager().start();
+        }
+
+        // Restarting degradation drops back to level 0, which may change the lock period
+        if (areas.contains(Area.POSITION_LOCK) || areas.contains(Area.DEGRADATION)) {
+            this.plugin.getScarecrowManager().stopPositionLockTask();
+            this.plugin.getScarecrowManager().startPositionLockTask();
+        }
+
+        if (areas.contains(Area.VISIBILITY)) {
+            this.plugin.getVisibilityManager().start();
+        }
+
+        if (areas.contains(Area.NAMES)) {
+            final ScarecrowManager scarecrowManager = this.plugin.getScarecrowManager();
+            this.plugin.getJobScheduler().submit("names", scarecrowManager.getScarecrows(), scarecrowManager::updateNameDisplay);
+        }
+    }
+
+    /**
+     * Read config.yml with the bundled defaults, as {@link org.bukkit.plugin.java.JavaPlugin#reloadConfig()} does,
+     * but failing instead of falling back to an empty config when the file is invalid
+     */
+    private FileConfiguration load() throws IOException, InvalidConfigurationException {
+        final YamlConfiguration loaded = new YamlConfiguration();
+        loaded.load(new File(this.plugin.getDataFolder(), "config.yml"));
+
+        try (InputStream defaults = this.plugin.getResource("config.yml")) {
+            if (defaults != null) {
+                loaded.setDefaults(YamlConfiguration.loadConfiguration(new InputStreamReader(defaults, StandardCharsets.UTF_8)));
+            }
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Get every leaf key whose value differs between two configs (defaults included)
+     */
+    private static Set<String> diff(final ConfigurationSection before, final ConfigurationSection after) {
+        final Set<String> keys = new TreeSet<>(before.getKeys(true));
+        keys.addAll(after.getKeys(true));
+
+        final Set<String> changed = new TreeSet<>();
+        for (final String key : keys) {
+            final Object oldValue = before.get(key);
+            final Object newValue = after.get(key);
+
+            if (oldValue instanceof ConfigurationSection && newValue instanceof ConfigurationSection) {
+                continue; // Compared through its leaf keys
+            }
+            if (!Objects.equals(oldValue, newValue)) {
+                changed.add(key);
+            }
+        }
+
+        return changed;
+    }
+
+    private static boolean matchesAny(final String key, final List<String> paths) {
+        for (final String path : paths) {
+            if (key.equals(path) || key.startsWith(path + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,43 +1,132 @@
 package com.example.scarecrowbot.manager;
 
 import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.event.ScarecrowMoveEvent;
+import com.example.scarecrowbot.event.ScarecrowSpeakEvent;
+import com.example.scarecrowbot.model.HpStore;
+import com.example.scarecrowbot.model.Scarecrow;
+import com.example.scarecrowbot.model.ScarecrowRecord;
 import com.example.scarecrowbot.util.PDCKeys;
+import com.example.scarecrowbot.util.ScarecrowRecordType;
+import com.example.scarecrowbot.util.SpatialIndex;
+import io.papermc.paper.entity.TeleportFlag;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.BlockDisplay;
+import org.bukkit.entity.Display;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Interaction;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Transformation;
+import org.joml.AxisAngle4f;
+import org.joml.Vector3f;
 
 import java.io.File;
 import java.io.IOException;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 
 /**
- * Manages the scarecrow entity lifecycle, persistence, and behavior
+ * Manages the scarecrow entity lifecycle, persistence, and behavior.
+ * <p>
+ * Entity work is dispatched to each scarecrow's own entity scheduler, so this class works both on
+ * Paper and on region-threaded (Folia) servers. Scarecrows are registered by entity UUID and indexed
+ * by world and chunk, so nearest/range lookups don't scan every scarecrow.
  */
 public class ScarecrowManager {
 
-    private static final DecimalFormat HP_FORMAT = new DecimalFormat("0.0");
+    // DecimalFormat isn't thread-safe and names render on every region thread
+    private static final ThreadLocal<DecimalFormat> HP_FORMAT = ThreadLocal.withInitial(() -> new DecimalFormat("0.0"));
+    private static final double HP_DISPLAY_SCALE = 10.0;
+
+    private static final long POSITION_LOCK_PERIOD_TICKS = 5L; // 0.25 seconds
+
+    /**
+     * Radius searched through the spatial index before falling back to a scan of all scarecrows
+     */
+    private static final double NEAREST_SEARCH_RADIUS = 512.0;
+
+    /**
+     * Config value of scarecrow.entityType selecting the Interaction + display entity mode
+     */
+    private static final String LIGHTWEIGHT_TYPE = "LIGHTWEIGHT";
+
+    /**
+     * Config value of scarecrow.nameplate.mode selecting a separate text display above the entity
+     */
+    private static final String TEXT_DISPLAY_NAMEPLATE = "TEXT_DISPLAY";
+
+    private static final String PART_MODEL = "model";
+    private static final String PART_NAMEPLATE = "nameplate";
+    private static final String PART_HEALTH_BAR = "health_bar";
+
+    /**
+     * Width of the health bar in space characters at full HP
+     */
+    private static final String HEALTH_BAR_TEXT = " ".repeat(20);
+
+    /**
+     * Entities of a scarecrow that were spawned but not registered
+     *
+     * @param anchor    Living entity or Interaction hitbox
+     * @param nameplate Text display nameplate, or null when the custom name is used
+     * @param healthBar Health bar display, or null when disabled
+     * @param maxHp     Max HP written to the record
+     */
+    public record SpawnedEntities(Entity anchor, TextDisplay nameplate, TextDisplay healthBar, double maxHp) {
+    }
 
     private final ScarecrowBotPlugin plugin;
     private final File dataFile;
 
+    /**
+     * All known scarecrows by anchor entity UUID, loaded or not
+     */
+    private final Map<UUID, Scarecrow> scarecrows = new ConcurrentHashMap<>();
+
     @Getter
-    private LivingEntity scarecrowEntity;
+    private final SpatialIndex<Scarecrow> index = new SpatialIndex<>();
 
+    /**
+     * Authoritative HP state of every scarecrow, walked directly by {@link HpRegenEngine}
+     */
     @Getter
-    private Location spawnLocation;
+    private final HpStore hpStore = new HpStore();
+
+    private volatile boolean positionLockEnabled;
+
+    /**
+     * Bumped whenever a scarecrow is added or removed, so cached copies know to rebuild
+     */
+    private final AtomicInteger structureVersion = new AtomicInteger();
 
-    private BukkitTask positionLockTask;
+    /**
+     * Save job that is waiting or running, used to merge save requests
+     */
+    private volatile JobScheduler.Job<Scarecrow> pendingSave;
+    private volatile int pendingSaveStructure;
+    private final AtomicLong saveSequence = new AtomicLong();
+    private long writtenSequence;
 
     public ScarecrowManager() {
         this.plugin = ScarecrowBotPlugin.getInstance();
@@ -45,287 +134,816 @@ public class ScarecrowManager {
     }
 
     /**
-     * Create a new scarecrow at the specified location
+     * Get all known scarecrows (including ones whose chunk is unloaded)
      *
-     * @param location Spawn location
-     * @param botName  Custom name for the bot
-     * @return True if created successfully
+     * @return Scarecrows
+     */
+    public Collection<Scarecrow> getScarecrows() {
+        return this.scarecrows.values();
+    }
+
+    /**
+     * Get the structure version, which changes whenever a scarecrow is added or removed
+     *
+     * @return Structure version
      */
-    public boolean createScarecrow(final Location location, final String botName) {
-        if (this.scarecrowEntity != null && !this.scarecrowEntity.isDead()) {
-            return false; // Already exists
+    public int getStructureVersion() {
+        return this.structureVersion.get();
+    }
+
+    /**
+     * Get a scarecrow by its entity UUID
+     *
+     * @param uuid Entity UUID
+     * @return Scarecrow, or null
+     */
+    public Scarecrow getScarecrow(final UUID uuid) {
+        return this.scarecrows.get(uuid);
+    }
+
+    /**
+     * Get the scarecrow bound to an entity
+     *
+     * @param entity Entity to look up
+     * @return Scarecrow, or null if the entity is not a registered scarecrow
+     */
+    public Scarecrow getScarecrow(final Entity entity) {
+        return this.scarecrows.get(entity.getUniqueId());
+    }
+
+    /**
+     * Find the scarecrow closest to a location, preferring the same world
+     *
+     * @param location Location to search from
+     * @return Nearest scarecrow, or null if none exist
+     */
+    public Scarecrow findNearest(final Location location) {
+        final World world = location.getWorld();
+        if (world != null) {
+            final Scarecrow nearest = this.index.nearest(world.getUID(), location.getX(), location.getY(), location.getZ(),
+                    NEAREST_SEARCH_RADIUS);
+            if (nearest != null) {
+                return nearest;
+            }
         }
 
-        final FileConfiguration config = this.plugin.getConfig();
-        final String entityTypeString = config.getString("scarecrow.entityType", "VILLAGER").toUpperCase();
-        final EntityType entityType;
+        // Nothing close by: fall back to the closest in the same world, or any scarecrow
+        Scarecrow best = null;
+        double bestDistanceSquared = Double.MAX_VALUE;
+        for (final Scarecrow candidate : this.scarecrows.values()) {
+            final Location candidateLocation = candidate.getSpawnLocation();
+            if (world != null && world.equals(candidateLocation.getWorld())) {
+                final double distanceSquared = candidateLocation.distanceSquared(location);
+                if (distanceSquared < bestDistanceSquared) {
+                    best = candidate;
+                    bestDistanceSquared = distanceSquared;
+                }
+            } else if (best == null) {
+                best = candidate;
+            }
+        }
 
-        try {
-            entityType = EntityType.valueOf(entityTypeString);
-        } catch (final IllegalArgumentException exception) {
-            this.plugin.getLogger().warning("Invalid entity type in config: " + entityTypeString + ", using VILLAGER");
-            return this.createScarecrowWithType(location, botName, EntityType.VILLAGER);
+        return best;
+    }
+
+    /**
+     * Find all scarecrows within a radius
+     *
+     * @param location Center
+     * @param radius   Radius in blocks
+     * @return Scarecrows within the radius
+     */
+    public List<Scarecrow> findInRange(final Location location, final double radius) {
+        final World world = location.getWorld();
+        if (world == null) {
+            return List.of();
         }
 
-        return this.createScarecrowWithType(location, botName, entityType);
+        return this.index.queryRange(world.getUID(), location.getX(), location.getY(), location.getZ(), radius);
+    }
+
+    /**
+     * Create a new scarecrow at the specified location.
+     * The target chunk is loaded asynchronously before the entity is spawned.
+     *
+     * @param location Spawn location
+     * @param botName  Custom name for the bot
+     * @return Future completed on the region thread owning the location with true if created successfully
+     */
+    public CompletableFuture<Boolean> createScarecrow(final Location location, final String botName) {
+        return this.createScarecrow(location, botName, this.plugin.getConfig().getString("scarecrow.entityType", "VILLAGER"));
     }
 
-    private boolean createScarecrowWithType(final Location location, final String botName, final EntityType entityType) {
+    /**
+     * Create a new scarecrow of a given entity type at the specified location
+     *
+     * @param location   Spawn location
+     * @param botName    Custom name for the bot
+     * @param entityType VILLAGER, ZOMBIE or LIGHTWEIGHT
+     * @return Future completed on the region thread owning the location with true if created successfully
+     */
+    public CompletableFuture<Boolean> createScarecrow(final Location location, final String botName, final String entityType) {
         final World world = location.getWorld();
         if (world == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        // Synced scarecrows are matched by name across servers
+        if (this.plugin.getSyncManager().isDuplicateName(botName)) {
+            this.plugin.getLogger().warning("A scarecrow named " + botName + " already exists and sync is enabled");
+            return CompletableFuture.completedFuture(false);
+        }
+
+        final String entityTypeString = entityType.toUpperCase();
+        if (!LIGHTWEIGHT_TYPE.equals(entityTypeString)) {
+            try {
+                EntityType.valueOf(entityTypeString);
+            } catch (final IllegalArgumentException exception) {
+                this.plugin.getLogger().warning("Invalid entity type: " + entityTypeString + ", using VILLAGER");
+                return this.loadChunkThen(location, () -> this.createSpawned(location, botName, EntityType.VILLAGER.name()));
+            }
+        }
+
+        return this.loadChunkThen(location, () -> this.createSpawned(location, botName, entityTypeString));
+    }
+
+    private CompletableFuture<Boolean> loadChunkThen(final Location location, final BooleanSupplier action) {
+        return location.getWorld().getChunkAtAsync(location)
+                .thenApply(chunk -> action.getAsBoolean())
+                .exceptionally(throwable -> {
+                    this.plugin.getLogger().severe("Failed to load chunk at " + this.formatLocation(location) + ": " + throwable.getMessage());
+                    return false;
+                });
+    }
+
+    /**
+     * Spawn a scarecrow's entities, then register, bind and save it
+     */
+    private boolean createSpawned(final Location location, final String botName, final String entityType) {
+        final SpawnedEntities spawned = this.spawnEntities(location, botName, entityType, true);
+        if (spawned == null) {
             return false;
         }
 
-        final Entity entity = world.spawnEntity(location, entityType);
+        final Entity anchor = spawned.anchor();
+        final Scarecrow created = new Scarecrow(this.hpStore, anchor.getUniqueId(), location, botName, spawned.maxHp(), spawned.maxHp());
+        this.register(created);
+        this.bind(created, anchor, spawned.nameplate(), spawned.healthBar());
+
+        // Save to file
+        this.requestSave();
+
+        final String kind = anchor instanceof Interaction ? "Lightweight scarecrow" : "Scarecrow";
+        this.plugin.getLogger().info(kind + " created at " + this.formatLocation(location) + " with name: " + botName);
+        this.logLifecycle("create", created);
+
+        return true;
+    }
+
+    /**
+     * Spawn and configure the entities of a scarecrow without registering, binding or saving it.
+     * Used for real scarecrows and for the probes of {@link TickBenchmark}. Must be called on the region
+     * thread owning the location.
+     *
+     * @param location   Spawn location
+     * @param botName    Name written to the entity's record
+     * @param entityType LIGHTWEIGHT or a living entity type (VILLAGER, ZOMBIE, ...)
+     * @param persistent Whether the entities are saved with the chunk
+     * @return Spawned entities, or null if the type is unknown or not a living entity
+     */
+    public SpawnedEntities spawnEntities(final Location location, final String botName, final String entityType, final boolean persistent) {
+        if (location.getWorld() == null) {
+            return null;
+        }
+
+        final String entityTypeString = entityType.toUpperCase();
+        if (LIGHTWEIGHT_TYPE.equals(entityTypeString)) {
+            return this.spawnLightweight(location, botName, persistent);
+        }
+
+        try {
+            return this.spawnLiving(location, botName, EntityType.valueOf(entityTypeString), persistent);
+        } catch (final IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    private SpawnedEntities spawnLiving(final Location location, final String botName, final EntityType entityType,
+                                        final boolean persistent) {
+        final Entity entity = location.getWorld().spawnEntity(location, entityType);
         if (!(entity instanceof LivingEntity livingEntity)) {
             entity.remove();
-            return false;
+            return null;
         }
 
-        this.scarecrowEntity = livingEntity;
-        this.spawnLocation = location.clone();
-
         // Configure entity
         final FileConfiguration config = this.plugin.getConfig();
-        this.scarecrowEntity.setAI(false);
-        this.scarecrowEntity.setPersistent(true);
-        this.scarecrowEntity.setRemoveWhenFarAway(false);
-        this.scarecrowEntity.setSilent(config.getBoolean("scarecrow.silent", true));
-        this.scarecrowEntity.setInvulnerable(config.getBoolean("scarecrow.invulnerable", false));
-        this.scarecrowEntity.setCollidable(true);
+        livingEntity.setAI(false);
+        livingEntity.setPersistent(persistent);
+        livingEntity.setRemoveWhenFarAway(false);
+        livingEntity.setSilent(config.getBoolean("scarecrow.silent", true));
+        livingEntity.setInvulnerable(config.getBoolean("scarecrow.invulnerable", false));
+        livingEntity.setCollidable(true);
 
         // Set max health
         final double maxHp = config.getDouble("scarecrow.maxHP", 100.0);
-        final AttributeInstance maxHealthAttribute = this.scarecrowEntity.getAttribute(Attribute.GENERIC_MAX_HEALTH);
+        final AttributeInstance maxHealthAttribute = livingEntity.getAttribute(Attribute.GENERIC_MAX_HEALTH);
         if (maxHealthAttribute != null) {
             maxHealthAttribute.setBaseValue(maxHp);
         }
-        this.scarecrowEntity.setHealth(maxHp);
+        livingEntity.setHealth(maxHp);
 
         // Store data in PDC
-        final PersistentDataContainer pdc = this.scarecrowEntity.getPersistentDataContainer();
-        pdc.set(PDCKeys.SCARECROW_MARKER, PersistentDataType.BOOLEAN, true);
-        pdc.set(PDCKeys.SCARECROW_HP, PersistentDataType.DOUBLE, maxHp);
-        pdc.set(PDCKeys.SCARECROW_MAX_HP, PersistentDataType.DOUBLE, maxHp);
-        pdc.set(PDCKeys.SCARECROW_NAME, PersistentDataType.STRING, botName);
+        this.writeInitialData(livingEntity, botName, maxHp);
+
+        // Optional separate nameplate riding the entity
+        TextDisplay nameplate = null;
+        TextDisplay healthBar = null;
+        if (TEXT_DISPLAY_NAMEPLATE.equalsIgnoreCase(config.getString("scarecrow.nameplate.mode", "CUSTOM_NAME"))) {
+            livingEntity.setCustomNameVisible(false);
+            nameplate = this.spawnNameplate(livingEntity, location, persistent);
+            healthBar = this.spawnHealthBar(livingEntity, location, persistent);
+        }
 
-        // Update name display
-        this.updateNameDisplay();
+        return new SpawnedEntities(livingEntity, nameplate, healthBar, maxHp);
+    }
 
-        // Save to file
-        this.saveToFile();
+    /**
+     * Lightweight scarecrow: an Interaction entity as hitbox, a block display as model and a text
+     * display as nameplate. None of these have AI, a brain or living-entity ticking. The displays ride
+     * the Interaction, so they move with it and are found again after a restart.
+     */
+    private SpawnedEntities spawnLightweight(final Location location, final String botName, final boolean persistent) {
+        final World world = location.getWorld();
+        final FileConfiguration config = this.plugin.getConfig();
+        final float width = (float) config.getDouble("scarecrow.lightweight.width", 0.8);
+        final float height = (float) config.getDouble("scarecrow.lightweight.height", 1.9);
+        final Material modelBlock = Material.matchMaterial(config.getString("scarecrow.lightweight.modelBlock", "HAY_BLOCK"));
+        final double maxHp = config.getDouble("scarecrow.maxHP", 100.0);
 
-        this.plugin.getLogger().info("Scarecrow created at " + this.formatLocation(location) + " with name: " + botName);
+        final Interaction interaction = world.spawn(location, Interaction.class, hitbox -> {
+            hitbox.setInteractionWidth(width);
+            hitbox.setInteractionHeight(height);
+            hitbox.setResponsive(true);
+            hitbox.setPersistent(persistent);
+            this.writeInitialData(hitbox, botName, maxHp);
+        });
+
+        // Passengers sit on top of the hitbox, so the model is translated back down to the ground
+        final BlockDisplay model = world.spawn(location, BlockDisplay.class, display -> {
+            display.setBlock((modelBlock != null && modelBlock.isBlock() ? modelBlock : Material.HAY_BLOCK).createBlockData());
+            display.setTransformation(new Transformation(
+                    new Vector3f(-width / 2.0f, -height, -width / 2.0f),
+                    new AxisAngle4f(),
+                    new Vector3f(width, height, width),
+                    new AxisAngle4f()));
+            display.setPersistent(persistent);
+            display.getPersistentDataContainer().set(PDCKeys.SCARECROW_PART, PersistentDataType.STRING, PART_MODEL);
+        });
+        interaction.addPassenger(model);
+
+        // Lightweight scarecrows have no custom name, so they always use a text display nameplate
+        final TextDisplay nameplate = this.spawnNameplate(interaction, location, persistent);
+        final TextDisplay healthBar = this.spawnHealthBar(interaction, location, persistent);
+
+        return new SpawnedEntities(interaction, nameplate, healthBar, maxHp);
+    }
 
-        return true;
+    private TextDisplay spawnNameplate(final Entity anchor, final Location location, final boolean persistent) {
+        final TextDisplay nameplate = location.getWorld().spawn(location, TextDisplay.class, display -> {
+            display.setBillboard(Display.Billboard.CENTER);
+            display.setTransformation(new Transformation(
+                    new Vector3f(0.0f, 0.45f, 0.0f),
+                    new AxisAngle4f(),
+                    new Vector3f(1.0f, 1.0f, 1.0f),
+                    new AxisAngle4f()));
+            display.setPersistent(persistent);
+            display.getPersistentDataContainer().set(PDCKeys.SCARECROW_PART, PersistentDataType.STRING, PART_NAMEPLATE);
+        });
+        anchor.addPassenger(nameplate);
+        return nameplate;
+    }
+
+    private TextDisplay spawnHealthBar(final Entity anchor, final Location location, final boolean persistent) {
+        if (!this.plugin.getConfig().getBoolean("scarecrow.nameplate.healthBar", true)) {
+            return null;
+        }
+
+        final TextDisplay healthBar = location.getWorld().spawn(location, TextDisplay.class, display -> {
+            display.setBillboard(Display.Billboard.CENTER);
+            display.text(Component.text(HEALTH_BAR_TEXT));
+            display.setBackgroundColor(Color.fromARGB(200, 220, 40, 40));
+            display.setTransformation(this.healthBarTransformation(1.0f));
+            display.setPersistent(persistent);
+            display.getPersistentDataContainer().set(PDCKeys.SCARECROW_PART, PersistentDataType.STRING, PART_HEALTH_BAR);
+        });
+        anchor.addPassenger(healthBar);
+        return healthBar;
+    }
+
+    private Transformation healthBarTransformation(final float ratio) {
+        return new Transformation(
+                new Vector3f(0.0f, 0.25f, 0.0f),
+                new AxisAngle4f(),
+                new Vector3f(ratio, 0.5f, 1.0f),
+                new AxisAngle4f());
+    }
+
+    private void writeInitialData(final Entity entity, final String botName, final double maxHp) {
+        entity.getPersistentDataContainer().set(PDCKeys.SCARECROW_DATA, ScarecrowRecordType.INSTANCE,
+                ScarecrowRecord.create(botName, maxHp));
     }
 
     /**
-     * Remove the scarecrow entity
+     * Read the packed record of a scarecrow entity, migrating the legacy four-key layout on first read.
+     * Must be called on the entity's thread.
+     *
+     * @param entity Scarecrow entity
+     * @return Record, or null if the entity carries no scarecrow data
      */
-    public void removeScarecrow() {
-        if (this.scarecrowEntity != null && !this.scarecrowEntity.isDead()) {
-            this.scarecrowEntity.remove();
+    private ScarecrowRecord readRecord(final Entity entity) {
+        final PersistentDataContainer pdc = entity.getPersistentDataContainer();
+        final ScarecrowRecord record = pdc.get(PDCKeys.SCARECROW_DATA, ScarecrowRecordType.INSTANCE);
+        if (record != null || !pdc.has(PDCKeys.SCARECROW_MARKER, PersistentDataType.BOOLEAN)) {
+            return record;
+        }
+
+        final double maxHp = pdc.getOrDefault(PDCKeys.SCARECROW_MAX_HP, PersistentDataType.DOUBLE,
+                this.plugin.getConfig().getDouble("scarecrow.maxHP", 100.0));
+        final double currentHp = pdc.getOrDefault(PDCKeys.SCARECROW_HP, PersistentDataType.DOUBLE, maxHp);
+        final String botName = pdc.getOrDefault(PDCKeys.SCARECROW_NAME, PersistentDataType.STRING, this.getBotName());
+        final ScarecrowRecord migrated = new ScarecrowRecord(currentHp, maxHp, botName, null, null);
+
+        pdc.set(PDCKeys.SCARECROW_DATA, ScarecrowRecordType.INSTANCE, migrated);
+        pdc.remove(PDCKeys.SCARECROW_MARKER);
+        pdc.remove(PDCKeys.SCARECROW_HP);
+        pdc.remove(PDCKeys.SCARECROW_MAX_HP);
+        pdc.remove(PDCKeys.SCARECROW_NAME);
+        this.plugin.getLogger().info("Migrated scarecrow " + botName + " to the packed data record");
+        return migrated;
+    }
+
+    private void register(final Scarecrow scarecrow) {
+        this.scarecrows.put(scarecrow.getUuid(), scarecrow);
+        this.reindex(scarecrow);
+        this.structureVersion.incrementAndGet();
+    }
+
+    private void reindex(final Scarecrow scarecrow) {
+        final Location location = scarecrow.getSpawnLocation();
+        this.index.put(scarecrow.getUuid(), location.getWorld().getUID(), location.getX(), location.getY(), location.getZ(), scarecrow);
+    }
+
+    private void bind(final Scarecrow scarecrow, final Entity entity, final TextDisplay nameplate, final TextDisplay healthBar) {
+        scarecrow.bind(entity, nameplate, healthBar);
+
+        // Update name display
+        this.updateNameDisplay(scarecrow);
+
+        if (this.positionLockEnabled) {
+            scarecrow.startPositionLock(this.positionLockPeriod());
         }
 
-        this.scarecrowEntity = null;
-        this.spawnLocation = null;
+        this.plugin.getVisibilityManager().onScarecrowBound(scarecrow);
+    }
 
-        // Delete data file
-        if (this.dataFile.exists()) {
-            this.dataFile.delete();
+    /**
+     * Check if any live scarecrow exists
+     *
+     * @return True if at least one scarecrow is loaded
+     */
+    public boolean exists() {
+        for (final Scarecrow scarecrow : this.scarecrows.values()) {
+            if (scarecrow.isAlive()) {
+                return true;
+            }
         }
 
-        this.plugin.getLogger().info("Scarecrow removed");
+        return false;
+    }
+
+    /**
+     * Remove a scarecrow and its entities
+     *
+     * @param scarecrow Scarecrow to remove
+     */
+    public void removeScarecrow(final Scarecrow scarecrow) {
+        scarecrow.stopPositionLock();
+        scarecrow.runOnEntity(entity -> {
+            scarecrow.clearDamageNumbers();
+
+            // Lightweight scarecrows carry their model and nameplate as passengers
+            entity.getPassengers().forEach(Entity::remove);
+            entity.remove();
+        });
+
+        this.scarecrows.remove(scarecrow.getUuid());
+        this.index.remove(scarecrow.getUuid());
+        this.structureVersion.incrementAndGet();
+        this.plugin.getVisibilityManager().onScarecrowChanged();
+
+        this.requestSave();
+
+        this.plugin.getLogger().info("Scarecrow removed: " + scarecrow.getBotName());
+        this.logLifecycle("remove", scarecrow);
+        scarecrow.releaseHp();
     }
 
     /**
-     * Move scarecrow to a new location
+     * Move a scarecrow to a new location using an async teleport
      *
+     * @param scarecrow   Scarecrow to move
      * @param newLocation New location
+     * @return Future completed with true if the scarecrow was moved
      */
-    public void moveScarecrow(final Location newLocation) {
-        if (this.scarecrowEntity == null || this.scarecrowEntity.isDead()) {
+    public CompletableFuture<Boolean> moveScarecrow(final Scarecrow scarecrow, final Location newLocation) {
+        if (!scarecrow.isAlive()) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        final Location target = newLocation.clone();
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        scarecrow.setTeleportPending(true);
+
+        // teleportAsync must be called from the region that owns the entity
+        scarecrow.runOnEntity(entity -> {
+            if (ScarecrowMoveEvent.hasListeners()) {
+                final ScarecrowMoveEvent moveEvent = new ScarecrowMoveEvent(scarecrow.getSnapshot(), target);
+                Bukkit.getPluginManager().callEvent(moveEvent);
+                if (moveEvent.isCancelled()) {
+                    scarecrow.setTeleportPending(false);
+                    result.complete(false);
+                    return;
+                }
+            }
+
+            // Pooled damage numbers are not passengers; drop them so they respawn at the new location
+            scarecrow.clearDamageNumbers();
+            this.teleportAndRecord(scarecrow, entity, target, result);
+        });
+
+        return result;
+    }
+
+    private void teleportAndRecord(final Scarecrow scarecrow, final Entity entity, final Location target,
+                                   final CompletableFuture<Boolean> result) {
+        entity.teleportAsync(target, PlayerTeleportEvent.TeleportCause.PLUGIN,
+                TeleportFlag.EntityState.RETAIN_PASSENGERS).whenComplete((success, throwable) -> {
+            scarecrow.setTeleportPending(false);
+
+            if (throwable != null) {
+                this.plugin.getLogger().severe("Failed to move scarecrow: " + throwable.getMessage());
+                result.complete(false);
+                return;
+            }
+
+            if (success) {
+                scarecrow.setSpawnLocation(target);
+                this.reindex(scarecrow);
+                this.logLifecycle("move", scarecrow);
+                this.requestSave();
+                this.plugin.getVisibilityManager().onScarecrowChanged();
+            }
+            result.complete(success);
+        });
+    }
+
+    private void logLifecycle(final String type, final Scarecrow scarecrow) {
+        final EventLog eventLog = this.plugin.getEventLog();
+        if (!eventLog.isEnabled()) {
             return;
         }
 
-        this.scarecrowEntity.teleport(newLocation);
-        this.spawnLocation = newLocation.clone();
-        this.saveToFile();
+        final Location location = scarecrow.getSpawnLocation();
+        eventLog.log(type, "scarecrow", scarecrow.getUuid(), "name", scarecrow.getBotName(),
+                "world", location.getWorld() != null ? location.getWorld().getName() : null,
+                "x", location.getX(), "y", location.getY(), "z", location.getZ());
     }
 
     /**
-     * Check if an entity is the scarecrow
+     * Check if an entity is a scarecrow
      *
      * @param entity Entity to check
-     * @return True if entity is the scarecrow
+     * @return True if entity is a scarecrow
      */
     public boolean isScarecrow(final Entity entity) {
-        if (!(entity instanceof LivingEntity)) {
+        if (!(entity instanceof LivingEntity) && !(entity instanceof Interaction)) {
             return false;
         }
 
         final PersistentDataContainer pdc = entity.getPersistentDataContainer();
-        return pdc.has(PDCKeys.SCARECROW_MARKER, PersistentDataType.BOOLEAN);
+        return pdc.has(PDCKeys.SCARECROW_DATA, PersistentDataType.BYTE_ARRAY)
+                || pdc.has(PDCKeys.SCARECROW_MARKER, PersistentDataType.BOOLEAN); // Not migrated yet
     }
 
     /**
-     * Get current HP of the scarecrow
+     * Set HP of a scarecrow.
+     * The cached HP is updated immediately; the PDC, entity health and name are updated on the entity's thread.
      *
-     * @return Current HP, or 0 if not exists
+     * @param scarecrow Scarecrow
+     * @param hp        New HP value
      */
-    public double getCurrentHp() {
-        if (this.scarecrowEntity == null || this.scarecrowEntity.isDead()) {
-            return 0.0;
+    public void setHp(final Scarecrow scarecrow, final double hp) {
+        if (!scarecrow.isAlive()) {
+            return;
         }
 
-        final PersistentDataContainer pdc = this.scarecrowEntity.getPersistentDataContainer();
-        return pdc.getOrDefault(PDCKeys.SCARECROW_HP, PersistentDataType.DOUBLE, 0.0);
+        this.applyHp(scarecrow, hp);
+        this.plugin.getSyncManager().markChanged(scarecrow);
     }
 
     /**
-     * Get maximum HP of the scarecrow
+     * Set HP received from another server. Same as {@link #setHp} without replicating the change again.
+     * The cached HP is updated even while the scarecrow is unloaded; binding writes it to the entity.
      *
-     * @return Maximum HP, or 0 if not exists
+     * @param scarecrow Scarecrow
+     * @param hp        New HP value
      */
-    public double getMaxHp() {
-        if (this.scarecrowEntity == null || this.scarecrowEntity.isDead()) {
-            return 0.0;
-        }
-
-        final PersistentDataContainer pdc = this.scarecrowEntity.getPersistentDataContainer();
-        return pdc.getOrDefault(PDCKeys.SCARECROW_MAX_HP, PersistentDataType.DOUBLE, 100.0);
+    public void setHpFromSync(final Scarecrow scarecrow, final double hp) {
+        this.applyHp(scarecrow, hp);
     }
 
     /**
-     * Set HP of the scarecrow
-     *
-     * @param hp New HP value
+     * Clamp and cache the HP, then write it to the entity if it is loaded (no replication)
      */
-    public void setHp(final double hp) {
-        if (this.scarecrowEntity == null || this.scarecrowEntity.isDead()) {
-            return;
-        }
-
+    private void applyHp(final Scarecrow scarecrow, final double hp) {
         final FileConfiguration config = this.plugin.getConfig();
         final double minHp = config.getDouble("scarecrow.minHP", 1.0);
-        final double maxHp = this.getMaxHp();
+        final double maxHp = scarecrow.getMaxHp();
         final double clampedHp = Math.max(minHp, Math.min(maxHp, hp));
+        scarecrow.setCurrentHp(clampedHp);
+        this.writeHp(scarecrow, clampedHp);
+    }
+
+    /**
+     * Write an already cached HP value to the entity's record, health and name
+     */
+    private void writeHp(final Scarecrow scarecrow, final double clampedHp) {
+        final double maxHp = scarecrow.getMaxHp();
+        scarecrow.runOnEntity(entity -> {
+            // Rewrite the whole record; the cached copy saves decoding it on every hit
+            ScarecrowRecord record = scarecrow.getRecord();
+            if (record == null) {
+                record = this.readRecord(entity);
+            }
+            if (record != null) {
+                record = record.withHp(clampedHp);
+                entity.getPersistentDataContainer().set(PDCKeys.SCARECROW_DATA, ScarecrowRecordType.INSTANCE, record);
+                scarecrow.setRecord(record);
+            }
+
+            // Update entity health attribute
+            if (!(entity instanceof LivingEntity livingEntity)) {
+                return;
+            }
 
-        final PersistentDataContainer pdc = this.scarecrowEntity.getPersistentDataContainer();
-        pdc.set(PDCKeys.SCARECROW_HP, PersistentDataType.DOUBLE, clampedHp);
+            final double healthRatio = clampedHp / maxHp;
+            final AttributeInstance maxHealthAttribute = livingEntity.getAttribute(Attribute.GENERIC_MAX_HEALTH);
+            if (maxHealthAttribute != null) {
+                final double entityMaxHealth = maxHealthAttribute.getValue();
+                livingEntity.setHealth(Math.max(0.1, healthRatio * entityMaxHealth));
+            }
+        });
 
-        // Update entity health attribute
-        final double healthRatio = clampedHp / maxHp;
-        final AttributeInstance maxHealthAttribute = this.scarecrowEntity.getAttribute(Attribute.GENERIC_MAX_HEALTH);
-        if (maxHealthAttribute != null) {
-            final double entityMaxHealth = maxHealthAttribute.getValue();
-            this.scarecrowEntity.setHealth(Math.max(0.1, healthRatio * entityMaxHealth));
+        this.updateNameDisplay(scarecrow);
+    }
+
+    /**
+     * Called after a batch update (regeneration or decay) changed the HP directly in the {@link HpStore}.
+     * The PDC, entity health and name are only updated when the HP shown in the name changes.
+     *
+     * @param scarecrow Scarecrow
+     * @param previous  HP before the update
+     */
+    public void onHpStepped(final Scarecrow scarecrow, final double previous) {
+        final double hp = scarecrow.getCurrentHp();
+        scarecrow.refreshSnapshot();
+
+        // Same rounding as HP_FORMAT, without formatting
+        if (Math.rint(previous * HP_DISPLAY_SCALE) == Math.rint(hp * HP_DISPLAY_SCALE)) {
+            return;
         }
 
-        this.updateNameDisplay();
+        // Every server regenerates on its own, so batch updates are not replicated
+        if (scarecrow.isAlive()) {
+            this.writeHp(scarecrow, hp);
+        }
     }
 
     /**
-     * Heal the scarecrow
+     * Heal a scarecrow
      *
-     * @param amount Amount to heal
+     * @param scarecrow Scarecrow
+     * @param amount    Amount to heal
      */
-    public void heal(final double amount) {
-        final double currentHp = this.getCurrentHp();
-        final double newHp = currentHp + amount;
-        this.setHp(newHp);
+    public void heal(final Scarecrow scarecrow, final double amount) {
+        final double newHp = scarecrow.getCurrentHp() + amount;
+        this.setHp(scarecrow, newHp);
     }
 
     /**
-     * Damage the scarecrow
+     * Damage a scarecrow
      *
-     * @param amount Amount of damage
+     * @param scarecrow Scarecrow
+     * @param amount    Amount of damage
      */
-    public void damage(final double amount) {
-        final double currentHp = this.getCurrentHp();
-        final double newHp = currentHp - amount;
-        this.setHp(newHp);
+    public void damage(final Scarecrow scarecrow, final double amount) {
+        scarecrow.markDamaged();
+        final double newHp = scarecrow.getCurrentHp() - amount;
+        this.setHp(scarecrow, newHp);
 
         // Play effects
-        this.playDamageEffects();
+        this.playDamageEffects(scarecrow);
     }
 
     /**
-     * Play damage effects (sound and particles)
+     * Show a floating damage number above a scarecrow, using its display pool
+     *
+     * @param scarecrow Scarecrow
+     * @param amount    Damage dealt
      */
-    private void playDamageEffects() {
-        if (this.scarecrowEntity == null || this.scarecrowEntity.isDead()) {
+    public void showDamageNumber(final Scarecrow scarecrow, final double amount) {
+        if (!scarecrow.isAlive()) {
             return;
         }
 
         final FileConfiguration config = this.plugin.getConfig();
-        final Location location = this.scarecrowEntity.getLocation();
-        final World world = location.getWorld();
-
-        if (world == null) {
+        if (!config.getBoolean("scarecrow.damageNumbers.enabled", true)) {
             return;
         }
 
-        if (config.getBoolean("scarecrow.hurtSound", true)) {
-            world.playSound(location, Sound.ENTITY_PLAYER_HURT, 1.0f, 1.0f);
+        final int poolSize = config.getInt("scarecrow.damageNumbers.poolSize", 6);
+        final int durationTicks = config.getInt("scarecrow.damageNumbers.durationTicks", 20);
+        final String text = config.getString("scarecrow.damageNumbers.format", "§c-{damage}")
+                .replace("{damage}", HP_FORMAT.get().format(amount));
+
+        scarecrow.runOnEntity(entity -> scarecrow.getDamageNumbers(poolSize,
+                display -> this.plugin.getVisibilityManager().hideFromCulled(scarecrow, display)).show(Component.text(text), durationTicks));
+    }
+
+    /**
+     * Remove pooled damage number displays (on disable, so a reload doesn't leave them behind)
+     */
+    public void clearDamageNumbers() {
+        for (final Scarecrow scarecrow : this.scarecrows.values()) {
+            scarecrow.runOnEntity(entity -> scarecrow.clearDamageNumbers());
         }
+    }
 
-        if (config.getBoolean("scarecrow.damageParticles", true)) {
-            world.spawnParticle(Particle.DAMAGE_INDICATOR, location.add(0, 1, 0), 5, 0.3, 0.3, 0.3, 0.1);
+    /**
+     * Play damage effects (sound and particles)
+     */
+    private void playDamageEffects(final Scarecrow scarecrow) {
+        if (!this.plugin.getDegradationManager().allowEffects()) {
+            return;
         }
+
+        final FileConfiguration config = this.plugin.getConfig();
+        scarecrow.runOnEntity(entity -> {
+            final Location location = entity.getLocation();
+            final World world = location.getWorld();
+
+            if (world == null) {
+                return;
+            }
+
+            if (config.getBoolean("scarecrow.hurtSound", true)) {
+                world.playSound(location, Sound.ENTITY_PLAYER_HURT, 1.0f, 1.0f);
+            }
+
+            if (config.getBoolean("scarecrow.damageParticles", true)) {
+                world.spawnParticle(Particle.DAMAGE_INDICATOR, location.add(0, 1, 0), 5, 0.3, 0.3, 0.3, 0.1);
+            }
+        });
     }
 
     /**
-     * Update the custom name display with HP
+     * Update the name display with HP.
+     * Updates are rate-limited by scarecrow.nameplate.updateIntervalTicks, so heavy damage only resends
+     * the name (and health bar) a few times per second.
+     *
+     * @param scarecrow Scarecrow
      */
-    public void updateNameDisplay() {
-        if (this.scarecrowEntity == null || this.scarecrowEntity.isDead()) {
+    public void updateNameDisplay(final Scarecrow scarecrow) {
+        if (!scarecrow.isAlive()) {
             return;
         }
 
+        final long intervalTicks = this.plugin.getDegradationManager().scaleNameUpdateInterval(
+                this.plugin.getConfig().getLong("scarecrow.nameplate.updateIntervalTicks", 4L));
+        scarecrow.requestNameUpdate(intervalTicks, entity -> this.renderName(scarecrow, entity));
+    }
+
+    /**
+     * Render the name and health bar (runs on the entity's thread)
+     */
+    private void renderName(final Scarecrow current, final Entity entity) {
         final FileConfiguration config = this.plugin.getConfig();
-        final PersistentDataContainer pdc = this.scarecrowEntity.getPersistentDataContainer();
-        final String botName = pdc.getOrDefault(PDCKeys.SCARECROW_NAME, PersistentDataType.STRING, "Scarecrow");
+        final String botName = current.getBotName();
+        final TextDisplay nameplate = current.getNameplate();
+
+        // Passengers share the anchor's region, so the displays can be updated here
+        this.renderHealthBar(current);
+        this.plugin.getVisibilityManager().recordSuppressedUpdate(current);
 
         if (!config.getBoolean("scarecrow.visibleName", true)) {
-            this.scarecrowEntity.setCustomNameVisible(false);
+            if (nameplate != null) {
+                nameplate.text(Component.empty());
+            } else {
+                entity.setCustomNameVisible(false);
+            }
             return;
         }
 
-        this.scarecrowEntity.setCustomNameVisible(true);
-
+        final Component name;
         if (config.getBoolean("scarecrow.showHpInName", true)) {
-            final double currentHp = this.getCurrentHp();
-            final double maxHp = this.getMaxHp();
             final String nameFormat = config.getString("scarecrow.nameHpFormat", "{botName} §c[HP {hp}/{maxHp}]");
             final String displayName = nameFormat
                     .replace("{botName}", botName)
-                    .replace("{hp}", HP_FORMAT.format(currentHp))
-                    .replace("{maxHp}", HP_FORMAT.format(maxHp));
+                    .replace("{hp}", HP_FORMAT.get().format(current.getCurrentHp()))
+                    .replace("{maxHp}", HP_FORMAT.get().format(current.getMaxHp()));
 
-            this.scarecrowEntity.customName(Component.text(displayName));
+            name = Component.text(displayName);
         } else {
-            this.scarecrowEntity.customName(Component.text(botName));
+            name = Component.text(botName);
+        }
+
+        if (nameplate != null) {
+            if (!name.equals(nameplate.text())) {
+                nameplate.text(name);
+            }
+            return;
+        }
+
+        entity.setCustomNameVisible(true);
+        entity.customName(name);
+    }
+
+    /**
+     * Scale the health bar to the HP ratio; the client interpolates between the old and new scale
+     */
+    private void renderHealthBar(final Scarecrow current) {
+        final TextDisplay healthBar = current.getHealthBar();
+        if (healthBar == null || current.getMaxHp() <= 0) {
+            return;
+        }
+
+        final float ratio = (float) Math.max(0.0, Math.min(1.0, current.getCurrentHp() / current.getMaxHp()));
+        final Transformation transformation = this.healthBarTransformation(ratio);
+        if (transformation.equals(healthBar.getTransformation())) {
+            return;
         }
+
+        healthBar.setInterpolationDelay(0);
+        healthBar.setInterpolationDuration(this.plugin.getConfig().getInt("scarecrow.nameplate.interpolationTicks", 5));
+        healthBar.setTransformation(transformation);
     }
 
     /**
-     * Get the bot name
+     * Get the default bot name from the config
      *
      * @return Bot name
      */
     public String getBotName() {
-        if (this.scarecrowEntity != null && !this.scarecrowEntity.isDead()) {
-            final PersistentDataContainer pdc = this.scarecrowEntity.getPersistentDataContainer();
-            return pdc.getOrDefault(PDCKeys.SCARECROW_NAME, PersistentDataType.STRING, "Scarecrow");
-        }
-
         return this.plugin.getConfig().getString("bot.name", "Scarecrow");
     }
 
     /**
-     * Start the position lock task to keep scarecrow in place
+     * Broadcast a message in a scarecrow's name on the global region thread.
+     * Fires {@link ScarecrowSpeakEvent} first, so other plugins can rewrite or cancel the message.
+     *
+     * @param scarecrow Speaking scarecrow, or null to speak with the default bot name
+     * @param message   Message text
+     */
+    public void speak(final Scarecrow scarecrow, final String message) {
+        // Callers may be async (chat worker, reply providers), hop to the global region
+        Bukkit.getGlobalRegionScheduler().execute(this.plugin, () -> {
+            String text = message;
+            if (ScarecrowSpeakEvent.hasListeners()) {
+                final ScarecrowSpeakEvent speakEvent = new ScarecrowSpeakEvent(
+                        scarecrow != null ? scarecrow.getSnapshot() : null, text);
+                Bukkit.getPluginManager().callEvent(speakEvent);
+                if (speakEvent.isCancelled() || speakEvent.getMessage() == null) {
+                    return;
+                }
+                text = speakEvent.getMessage();
+            }
+
+            final FileConfiguration config = this.plugin.getConfig();
+            final String chatFormat = config.getString("bot.chatFormat", "<{botName}> {message}");
+            final String botName = scarecrow != null ? scarecrow.getBotName() : this.getBotName();
+
+            final String formattedMessage = chatFormat
+                    .replace("{botName}", botName)
+                    .replace("{message}", text);
+
+            Bukkit.broadcast(Component.text(formattedMessage));
+        });
+    }
+
+    /**
+     * Start the position lock tasks to keep scarecrows in place.
+     * Each lock runs on its scarecrow's own entity scheduler, so it follows the entity across regions.
      */
     public void startPositionLockTask() {
         final FileConfiguration config = this.plugin.getConfig();
@@ -333,32 +951,27 @@ public class ScarecrowManager {
             return;
         }
 
-        if (this.positionLockTask != null) {
-            return; // Already running
-        }
+        this.positionLockEnabled = true;
 
-        this.positionLockTask = Bukkit.getScheduler().runTaskTimer(this.plugin, () -> {
-            if (this.scarecrowEntity == null || this.scarecrowEntity.isDead() || this.spawnLocation == null) {
-                return;
-            }
-
-            final Location currentLocation = this.scarecrowEntity.getLocation();
-            final double distance = currentLocation.distance(this.spawnLocation);
+        this.plugin.getJobScheduler().submit("position lock", this.scarecrows.values(),
+                scarecrow -> scarecrow.startPositionLock(this.positionLockPeriod()));
+    }
 
-            if (distance > 0.1) {
-                this.scarecrowEntity.teleport(this.spawnLocation);
-                this.scarecrowEntity.setVelocity(this.scarecrowEntity.getVelocity().zero());
-            }
-        }, 5L, 5L); // Run every 5 ticks (0.25 seconds)
+    /**
+     * Position lock period, stretched while the server is under tick pressure
+     */
+    private long positionLockPeriod() {
+        return this.plugin.getDegradationManager().scalePositionLockPeriod(POSITION_LOCK_PERIOD_TICKS);
     }
 
     /**
-     * Stop the position lock task
+     * Stop the position lock tasks
      */
     public void stopPositionLockTask() {
-        if (this.positionLockTask != null) {
-            this.positionLockTask.cancel();
-            this.positionLockTask = null;
+        this.positionLockEnabled = false;
+
+        for (final Scarecrow scarecrow : this.scarecrows.values()) {
+            scarecrow.stopPositionLock();
         }
     }
 
@@ -368,30 +981,75 @@ public class ScarecrowManager {
     public void saveToFile() {
         final FileConfiguration data = new YamlConfiguration();
 
-        if (this.scarecrowEntity == null || this.scarecrowEntity.isDead()) {
-            data.set("scarecrow.exists", false);
-        } else {
-            data.set("scarecrow.exists", true);
-            data.set("scarecrow.uuid", this.scarecrowEntity.getUniqueId().toString());
-            data.set("scarecrow.world", this.spawnLocation.getWorld().getName());
-            data.set("scarecrow.x", this.spawnLocation.getX());
-            data.set("scarecrow.y", this.spawnLocation.getY());
-            data.set("scarecrow.z", this.spawnLocation.getZ());
-            data.set("scarecrow.yaw", this.spawnLocation.getYaw());
-            data.set("scarecrow.pitch", this.spawnLocation.getPitch());
-            data.set("scarecrow.hp", this.getCurrentHp());
-            data.set("scarecrow.name", this.getBotName());
+        for (final Scarecrow scarecrow : this.scarecrows.values()) {
+            this.writeScarecrow(data, scarecrow);
+        }
+
+        this.writeDataFile(data, this.saveSequence.incrementAndGet());
+    }
+
+    /**
+     * Save all scarecrows without blocking the tick: records are collected by a time-sliced job and the
+     * file is written on an async thread. Requests made while a save is still waiting are merged into it,
+     * unless scarecrows were added or removed since: the waiting job only has the scarecrows of its time.
+     */
+    public void requestSave() {
+        final JobScheduler.Job<Scarecrow> pending = this.pendingSave;
+        final int structure = this.structureVersion.get();
+        if (pending != null && !pending.isStarted() && this.pendingSaveStructure == structure) {
+            return; // The waiting save will see this change
+        }
+
+        final FileConfiguration data = new YamlConfiguration();
+        final long sequence = this.saveSequence.incrementAndGet();
+        this.pendingSaveStructure = structure;
+        final JobScheduler.Job<Scarecrow> job = this.plugin.getJobScheduler().submit("save",
+                this.scarecrows.values(), scarecrow -> this.writeScarecrow(data, scarecrow));
+        this.pendingSave = job;
+
+        job.getCompletion().thenRun(() -> {
+            if (this.plugin.isEnabled()) { // On shutdown the final synchronous save covers it
+                Bukkit.getAsyncScheduler().runNow(this.plugin, task -> this.writeDataFile(data, sequence));
+            }
+        });
+    }
+
+    private void writeScarecrow(final FileConfiguration data, final Scarecrow scarecrow) {
+        final Location location = scarecrow.getSpawnLocation();
+        final String path = "scarecrows." + scarecrow.getUuid();
+        data.set(path + ".world", location.getWorld().getName());
+        data.set(path + ".x", location.getX());
+        data.set(path + ".y", location.getY());
+        data.set(path + ".z", location.getZ());
+        data.set(path + ".yaw", location.getYaw());
+        data.set(path + ".pitch", location.getPitch());
+        data.set(path + ".hp", scarecrow.getCurrentHp());
+        data.set(path + ".maxHp", scarecrow.getMaxHp());
+        data.set(path + ".name", scarecrow.getBotName());
+    }
+
+    /**
+     * Write collected data to disk, skipping it if a newer save was already written
+     *
+     * @param data     Collected data
+     * @param sequence Sequence number of the save
+     */
+    private synchronized void writeDataFile(final FileConfiguration data, final long sequence) {
+        if (sequence <= this.writtenSequence) {
+            return;
         }
 
         try {
             data.save(this.dataFile);
+            this.writtenSequence = sequence;
         } catch (final IOException exception) {
             this.plugin.getLogger().severe("Failed to save scarecrow data: " + exception.getMessage());
         }
     }
 
     /**
-     * Load scarecrow data from file
+     * Load scarecrow data from file.
+     * Scarecrows are registered and indexed right away; their entities are bound once their chunks load.
      */
     public void loadFromFile() {
         if (!this.dataFile.exists()) {
@@ -400,51 +1058,141 @@ public class ScarecrowManager {
         }
 
         final FileConfiguration data = YamlConfiguration.loadConfiguration(this.dataFile);
+        final List<Scarecrow> loaded = new ArrayList<>();
+
+        final ConfigurationSection section = data.getConfigurationSection("scarecrows");
+        if (section != null) {
+            for (final String key : section.getKeys(false)) {
+                final Scarecrow scarecrow = this.readScarecrow(key, section.getConfigurationSection(key));
+                if (scarecrow != null) {
+                    loaded.add(scarecrow);
+                }
+            }
+        } else if (data.getBoolean("scarecrow.exists", false)) {
+            // Single-scarecrow layout from older versions
+            final Scarecrow scarecrow = this.readScarecrow(data.getString("scarecrow.uuid"), data.getConfigurationSection("scarecrow"));
+            if (scarecrow != null) {
+                loaded.add(scarecrow);
+            }
+        }
 
-        if (!data.getBoolean("scarecrow.exists", false)) {
+        if (loaded.isEmpty()) {
             this.plugin.getLogger().info("No scarecrow exists in data file");
             return;
         }
 
-        final String uuidString = data.getString("scarecrow.uuid");
-        if (uuidString == null) {
+        for (final Scarecrow scarecrow : loaded) {
+            this.register(scarecrow);
+
+            // Load the chunk off the main thread; entities are bound once they finish loading
+            final Location location = scarecrow.getSpawnLocation();
+            location.getWorld().getChunkAtAsync(location).thenAccept(chunk -> {
+                if (!scarecrow.isAlive() && !this.tryBindEntity(scarecrow, Bukkit.getEntity(scarecrow.getUuid()))) {
+                    this.plugin.getLogger().info("Scarecrow chunk loaded, waiting for its entities to load: " + scarecrow.getBotName());
+                }
+            });
+        }
+
+        this.plugin.getLogger().info("Loaded " + loaded.size() + " scarecrow(s) from data file");
+    }
+
+    private Scarecrow readScarecrow(final String uuidString, final ConfigurationSection section) {
+        if (uuidString == null || section == null) {
             this.plugin.getLogger().warning("Invalid UUID in data file");
-            return;
+            return null;
         }
 
-        final UUID entityUuid = UUID.fromString(uuidString);
-        final String worldName = data.getString("scarecrow.world");
-        final World world = Bukkit.getWorld(worldName);
+        final UUID entityUuid;
+        try {
+            entityUuid = UUID.fromString(uuidString);
+        } catch (final IllegalArgumentException exception) {
+            this.plugin.getLogger().warning("Invalid UUID in data file: " + uuidString);
+            return null;
+        }
 
+        final String worldName = section.getString("world");
+        final World world = worldName != null ? Bukkit.getWorld(worldName) : null;
         if (world == null) {
             this.plugin.getLogger().warning("World not found: " + worldName);
-            return;
+            return null;
+        }
+
+        final Location location = new Location(world,
+                section.getDouble("x"),
+                section.getDouble("y"),
+                section.getDouble("z"),
+                (float) section.getDouble("yaw"),
+                (float) section.getDouble("pitch"));
+        final double maxHp = section.getDouble("maxHp", this.plugin.getConfig().getDouble("scarecrow.maxHP", 100.0));
+
+        return new Scarecrow(this.hpStore, entityUuid, location, section.getString("name", this.getBotName()),
+                section.getDouble("hp", maxHp), maxHp);
+    }
+
+    /**
+     * Bind registered scarecrows to their entities once they have been loaded
+     *
+     * @param entities Entities that were just loaded
+     */
+    public void handleEntitiesLoad(final List<Entity> entities) {
+        for (final Entity entity : entities) {
+            final Scarecrow scarecrow = this.scarecrows.get(entity.getUniqueId());
+            if (scarecrow != null && !scarecrow.isAlive()) {
+                this.tryBindEntity(scarecrow, entity);
+            }
         }
+    }
 
-        // Try to find existing entity
-        final Entity entity = Bukkit.getEntity(entityUuid);
-        if (entity instanceof LivingEntity livingEntity && !entity.isDead()) {
-            this.scarecrowEntity = livingEntity;
+    /**
+     * Unbind scarecrows whose entities were unloaded with their chunk
+     *
+     * @param entities Entities that are being unloaded
+     */
+    public void handleEntitiesUnload(final List<Entity> entities) {
+        for (final Entity entity : entities) {
+            final Scarecrow scarecrow = this.scarecrows.get(entity.getUniqueId());
+            if (scarecrow != null && scarecrow.getEntity() == entity) {
+                scarecrow.unbind();
+            }
+        }
+    }
 
-            // Restore spawn location
-            final double x = data.getDouble("scarecrow.x");
-            final double y = data.getDouble("scarecrow.y");
-            final double z = data.getDouble("scarecrow.z");
-            final float yaw = (float) data.getDouble("scarecrow.yaw");
-            final float pitch = (float) data.getDouble("scarecrow.pitch");
-            this.spawnLocation = new Location(world, x, y, z, yaw, pitch);
+    private boolean tryBindEntity(final Scarecrow scarecrow, final Entity entity) {
+        if (entity == null || entity.isDead() || !this.isScarecrow(entity)) {
+            return false;
+        }
 
-            // Restore HP
-            final double savedHp = data.getDouble("scarecrow.hp", 100.0);
-            this.setHp(savedHp);
+        final TextDisplay nameplate = this.findPart(entity, PART_NAMEPLATE);
+        final TextDisplay healthBar = this.findPart(entity, PART_HEALTH_BAR);
+        this.bind(scarecrow, entity, nameplate, healthBar);
+        scarecrow.setRecord(this.readRecord(entity));
+
+        // Restore HP; not a new change, so it must not be replicated over newer remote writes
+        this.applyHp(scarecrow, scarecrow.getCurrentHp());
+
+        // Teleport to spawn location in case it moved
+        final Location spawnLocation = scarecrow.getSpawnLocation();
+        final Location currentLocation = entity.getLocation();
+        if (!currentLocation.getWorld().equals(spawnLocation.getWorld())
+                || currentLocation.distanceSquared(spawnLocation) > 0.01) {
+            scarecrow.setTeleportPending(true);
+            entity.teleportAsync(spawnLocation, PlayerTeleportEvent.TeleportCause.PLUGIN,
+                    TeleportFlag.EntityState.RETAIN_PASSENGERS).whenComplete((success, throwable) -> scarecrow.setTeleportPending(false));
+        }
 
-            // Teleport to spawn location in case it moved
-            this.scarecrowEntity.teleport(this.spawnLocation);
+        this.plugin.getLogger().info("Loaded existing scarecrow entity: " + scarecrow.getBotName());
+        return true;
+    }
 
-            this.plugin.getLogger().info("Loaded existing scarecrow entity: " + this.getBotName());
-        } else {
-            this.plugin.getLogger().warning("Scarecrow entity not found (may have been unloaded). Use /scarecrow create to spawn a new one.");
+    private TextDisplay findPart(final Entity anchor, final String part) {
+        for (final Entity passenger : anchor.getPassengers()) {
+            if (passenger instanceof TextDisplay display
+                    && part.equals(display.getPersistentDataContainer().get(PDCKeys.SCARECROW_PART, PersistentDataType.STRING))) {
+                return display;
+            }
         }
+
+        return null;
     }
 
     private String formatLocation(final Location location) {
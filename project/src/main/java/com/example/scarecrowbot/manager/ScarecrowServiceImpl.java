@@ -0,0 +1,53 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.api.ScarecrowService;
+import com.example.scarecrowbot.api.ScarecrowSnapshot;
+import com.example.scarecrowbot.model.Scarecrow;
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link ScarecrowService} backed by the snapshots each scarecrow republishes whenever it changes.
+ * Reads go through the concurrent registry and the lock-free spatial index only.
+ */
+public class ScarecrowServiceImpl implements ScarecrowService {
+
+    private final ScarecrowManager scarecrowManager;
+
+    public ScarecrowServiceImpl(final ScarecrowManager scarecrowManager) {
+        this.scarecrowManager = scarecrowManager;
+    }
+
+    @Override
+    public List<ScarecrowSnapshot> getScarecrows() {
+        return this.snapshots(this.scarecrowManager.getScarecrows());
+    }
+
+    @Override
+    public ScarecrowSnapshot getScarecrow(final UUID uuid) {
+        final Scarecrow scarecrow = this.scarecrowManager.getScarecrow(uuid);
+        return scarecrow != null ? scarecrow.getSnapshot() : null;
+    }
+
+    @Override
+    public List<ScarecrowSnapshot> getScarecrowsInWorld(final UUID worldId) {
+        return this.snapshots(this.scarecrowManager.getIndex().inWorld(worldId));
+    }
+
+    @Override
+    public List<ScarecrowSnapshot> getScarecrowsInRange(final Location location, final double radius) {
+        return this.snapshots(this.scarecrowManager.findInRange(location, radius));
+    }
+
+    private List<ScarecrowSnapshot> snapshots(final Iterable<Scarecrow> scarecrows) {
+        final List<ScarecrowSnapshot> results = new ArrayList<>();
+        for (final Scarecrow scarecrow : scarecrows) {
+            results.add(scarecrow.getSnapshot());
+        }
+
+        return List.copyOf(results);
+    }
+}
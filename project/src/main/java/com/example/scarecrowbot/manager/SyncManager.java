@@ -0,0 +1,367 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.model.Scarecrow;
+import com.example.scarecrowbot.sync.LoopbackTransport;
+import com.example.scarecrowbot.sync.ProxyTransport;
+import com.example.scarecrowbot.sync.SyncBatch;
+import com.example.scarecrowbot.sync.SyncTransport;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replicates scarecrow HP and global chat cooldowns between servers.
+ * <p>
+ * Scarecrows with the same name on different servers are one logical scarecrow, so names must be unique
+ * on each server while sync is enabled (creating a duplicate is refused). A local HP change only
+ * marks its scarecrow dirty; a timer sends one batch per flush interval holding the latest HP of each
+ * dirty scarecrow, so sync traffic depends on the number of scarecrows hit, not on the hit rate.
+ * <p>
+ * Every change is stamped with a logical clock (wall time, never going backwards, advanced past every
+ * remote stamp seen). Updates merge last-writer-wins on (stamp, origin), so all servers converge on the
+ * same HP whatever order batches arrive in. Batches carry a per-origin sequence number: repeated or
+ * late batches are dropped and skipped numbers are counted as gaps.
+ */
+public class SyncManager {
+
+    /**
+     * Keeps a proxy-forwarded batch well below the plugin message size limit
+     */
+    private static final int MAX_UPDATES_PER_BATCH = 500;
+
+    private final ScarecrowBotPlugin plugin;
+    private final UUID origin = UUID.randomUUID();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Sequence of the last batch that was actually sent; a failed send reuses the next number
+     */
+    private long sequence;
+
+    /**
+     * Dirty scarecrow keys with the stamp of their latest local change
+     */
+    private final Map<String, Long> pendingHp = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingCooldowns = new ConcurrentHashMap<>();
+
+    /**
+     * Winning stamp per scarecrow key, local or remote
+     */
+    private final Map<String, Stamp> stamps = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> lastSequences = new ConcurrentHashMap<>();
+
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder receivedCount = new LongAdder();
+    private final LongAdder staleCount = new LongAdder();
+    private final LongAdder gapCount = new LongAdder();
+
+    @Getter
+    private volatile boolean enabled;
+    private volatile SyncTransport transport;
+
+    private ScheduledTask flushTask;
+
+    public SyncManager() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+    }
+
+    /**
+     * Ordering of a change: logical time, then origin as tie-break
+     */
+    private record Stamp(long time, UUID origin) {
+
+        boolean isNewerThan(final Stamp other) {
+            return other == null || this.time > other.time
+                    || (this.time == other.time && this.origin.compareTo(other.origin) > 0);
+        }
+    }
+
+    /**
+     * Read settings, connect the transport and start the flush timer if sync is enabled
+     */
+    public void start() {
+        final FileConfiguration config = this.plugin.getConfig();
+        if (!config.getBoolean("sync.enabled", false)) {
+            return;
+        }
+
+        final String transportName = config.getString("sync.transport", "PROXY").toUpperCase(Locale.ROOT);
+        final SyncTransport selected = switch (transportName) {
+            case "LOOPBACK" -> new LoopbackTransport(config.getString("sync.loopbackChannel", "default"));
+            case "SERVICE" -> Bukkit.getServicesManager().load(SyncTransport.class);
+            default -> new ProxyTransport(this.plugin);
+        };
+        if (selected == null) {
+            this.plugin.getLogger().warning("Sync transport SERVICE selected but no SyncTransport is registered, sync disabled");
+            return;
+        }
+
+        this.transport = selected;
+        this.transport.start(this::receive);
+        this.enabled = true;
+
+        if (config.getBoolean("sync.cooldowns", true)) {
+            this.plugin.getCooldownManager().setGlobalCooldownListener(this::markCooldown);
+        }
+
+        final long flushIntervalMillis = Math.max(50L, config.getLong("sync.flushIntervalMillis", 500L));
+        this.flushTask = Bukkit.getAsyncScheduler().runAtFixedRate(this.plugin, task -> this.flush(),
+                flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+
+        this.plugin.getLogger().info("Scarecrow sync enabled over " + this.transport.getName());
+
+        // Scarecrows created before sync was turned on may share a name
+        final Map<String, String> seen = new HashMap<>();
+        for (final Scarecrow scarecrow : this.plugin.getScarecrowManager().getScarecrows()) {
+            if (seen.putIfAbsent(key(scarecrow.getBotName()), scarecrow.getBotName()) != null) {
+                this.plugin.getLogger().warning("Several scarecrows are named " + scarecrow.getBotName()
+                        + "; they share one synced HP. Rename or remove the duplicates.");
+            }
+        }
+    }
+
+    /**
+     * Send pending changes one last time and disconnect
+     */
+    public void stop() {
+        if (!this.enabled) {
+            return;
+        }
+
+        if (this.flushTask != null) {
+            this.flushTask.cancel();
+            this.flushTask = null;
+        }
+
+        this.flush();
+        this.enabled = false;
+        this.plugin.getCooldownManager().setGlobalCooldownListener(null);
+        this.transport.stop();
+    }
+
+    /**
+     * Check if a new scarecrow with this name would share its sync key with an existing one
+     *
+     * @param botName Name of the new scarecrow
+     * @return True if sync is enabled and the name is taken
+     */
+    public boolean isDuplicateName(final String botName) {
+        if (!this.enabled) {
+            return false;
+        }
+
+        final String key = key(botName);
+        for (final Scarecrow scarecrow : this.plugin.getScarecrowManager().getScarecrows()) {
+            if (key(scarecrow.getBotName()).equals(key)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Mark a scarecrow's HP as changed locally, to be sent with the next batch
+     *
+     * @param scarecrow Changed scarecrow
+     */
+    public void markChanged(final Scarecrow scarecrow) {
+        if (!this.enabled) {
+            return;
+        }
+
+        final String key = key(scarecrow.getBotName());
+        final long time = this.tick();
+        this.stamps.put(key, new Stamp(time, this.origin));
+        this.pendingHp.put(key, time);
+    }
+
+    /**
+     * Mark a global cooldown as set locally, to be sent with the next batch
+     *
+     * @param key       Cooldown key
+     * @param expiresAt Expiry time in epoch milliseconds
+     */
+    public void markCooldown(final String key, final long expiresAt) {
+        if (this.enabled) {
+            this.pendingCooldowns.merge(key, expiresAt, Math::max);
+        }
+    }
+
+    /**
+     * Get a one-line summary for /scarecrow status
+     *
+     * @return Summary
+     */
+    public String describe() {
+        return String.format("Sync (%s): %d batches sent, %d received, %d stale, %d gaps",
+                this.transport.getName(), this.sentCount.sum(), this.receivedCount.sum(),
+                this.staleCount.sum(), this.gapCount.sum());
+    }
+
+    /**
+     * Send everything that changed since the last flush (async thread; synchronized with the final flush on stop)
+     */
+    private synchronized void flush() {
+        if (this.pendingHp.isEmpty() && this.pendingCooldowns.isEmpty()) {
+            return;
+        }
+
+        // Drain first, then read the current HP: a change racing with the drain is sent next time
+        final Map<String, Long> drained = new HashMap<>();
+        for (final Map.Entry<String, Long> entry : this.pendingHp.entrySet()) {
+            if (this.pendingHp.remove(entry.getKey(), entry.getValue())) {
+                drained.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        final List<SyncBatch.CooldownUpdate> cooldownUpdates = new ArrayList<>();
+        for (final Map.Entry<String, Long> entry : this.pendingCooldowns.entrySet()) {
+            if (this.pendingCooldowns.remove(entry.getKey(), entry.getValue())) {
+                cooldownUpdates.add(new SyncBatch.CooldownUpdate(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        final List<SyncBatch.HpUpdate> hpUpdates = new ArrayList<>(drained.size());
+        for (final Scarecrow scarecrow : this.plugin.getScarecrowManager().getScarecrows()) {
+            final Long time = drained.remove(key(scarecrow.getBotName()));
+            if (time != null) {
+                hpUpdates.add(new SyncBatch.HpUpdate(key(scarecrow.getBotName()), scarecrow.getCurrentHp(), time));
+            }
+        }
+
+        int from = 0;
+        do {
+            final int to = Math.min(hpUpdates.size(), from + MAX_UPDATES_PER_BATCH);
+            final List<SyncBatch.HpUpdate> hpSlice = hpUpdates.subList(from, to);
+            final List<SyncBatch.CooldownUpdate> cooldownSlice = from == 0 ? cooldownUpdates : List.of();
+            // Only a sent batch uses up its number, so receivers never see a gap for a failed send
+            final SyncBatch batch = new SyncBatch(this.origin, this.sequence + 1, hpSlice, cooldownSlice);
+            if (this.transport.send(batch.encode())) {
+                this.sequence++;
+                this.sentCount.increment();
+            } else {
+                this.requeue(hpSlice, cooldownSlice);
+            }
+            from = to;
+        } while (from < hpUpdates.size());
+    }
+
+    /**
+     * Mark the changes of a batch that could not be sent as pending again, so a later flush retries them
+     * (newer local changes made meanwhile keep their stamp)
+     */
+    private void requeue(final List<SyncBatch.HpUpdate> hpUpdates, final List<SyncBatch.CooldownUpdate> cooldownUpdates) {
+        for (final SyncBatch.HpUpdate update : hpUpdates) {
+            // Skip changes a remote write has overtaken in the meantime
+            final Stamp stamp = this.stamps.get(update.key());
+            if (stamp != null && stamp.origin().equals(this.origin) && stamp.time() >= update.version()) {
+                this.pendingHp.merge(update.key(), update.version(), Math::max);
+            }
+        }
+
+        for (final SyncBatch.CooldownUpdate update : cooldownUpdates) {
+            this.pendingCooldowns.merge(update.key(), update.expiresAt(), Math::max);
+        }
+    }
+
+    /**
+     * Merge a batch from another server (transport thread)
+     */
+    private void receive(final byte[] payload) {
+        final SyncBatch batch;
+        try {
+            batch = SyncBatch.decode(payload);
+        } catch (final IOException exception) {
+            this.plugin.getLogger().warning("Dropped malformed sync batch: " + exception.getMessage());
+            return;
+        }
+
+        if (batch.origin().equals(this.origin) || !this.acceptSequence(batch)) {
+            return;
+        }
+        this.receivedCount.increment();
+
+        final Map<String, Double> winners = new HashMap<>();
+        for (final SyncBatch.HpUpdate update : batch.hpUpdates()) {
+            this.observe(update.version());
+
+            final Stamp remote = new Stamp(update.version(), batch.origin());
+            final Stamp merged = this.stamps.merge(update.key(), remote,
+                    (current, incoming) -> incoming.isNewerThan(current) ? incoming : current);
+            if (merged != remote) {
+                continue; // A newer write (local or from another server) already won
+            }
+
+            // An older local change lost; don't send it any more
+            this.pendingHp.computeIfPresent(update.key(), (key, time) -> time <= update.version() ? null : time);
+            winners.put(update.key(), update.hp());
+        }
+
+        if (!winners.isEmpty()) {
+            final ScarecrowManager scarecrowManager = this.plugin.getScarecrowManager();
+            for (final Scarecrow scarecrow : scarecrowManager.getScarecrows()) {
+                final Double hp = winners.get(key(scarecrow.getBotName()));
+                if (hp != null) {
+                    scarecrowManager.setHpFromSync(scarecrow, hp);
+                }
+            }
+        }
+
+        final CooldownManager cooldownManager = this.plugin.getCooldownManager();
+        for (final SyncBatch.CooldownUpdate update : batch.cooldownUpdates()) {
+            cooldownManager.mergeGlobalCooldown(update.key(), update.expiresAt());
+        }
+    }
+
+    /**
+     * Track the origin's sequence: drop repeated or late batches, count skipped ones
+     *
+     * @return True if the batch is new
+     */
+    private boolean acceptSequence(final SyncBatch batch) {
+        final long[] previous = new long[1];
+        this.lastSequences.compute(batch.origin(), (origin, last) -> {
+            previous[0] = last != null ? last : 0L;
+            return last == null || batch.sequence() > last ? batch.sequence() : last;
+        });
+
+        if (batch.sequence() <= previous[0]) {
+            this.staleCount.increment();
+            return false;
+        }
+
+        if (previous[0] > 0 && batch.sequence() > previous[0] + 1) {
+            this.gapCount.add(batch.sequence() - previous[0] - 1);
+        }
+        return true;
+    }
+
+    private long tick() {
+        final long now = System.currentTimeMillis();
+        return this.clock.updateAndGet(last -> Math.max(now, last + 1));
+    }
+
+    private void observe(final long remoteTime) {
+        this.clock.accumulateAndGet(remoteTime, Math::max);
+    }
+
+    private static String key(final String botName) {
+        return botName.toLowerCase(Locale.ROOT);
+    }
+}
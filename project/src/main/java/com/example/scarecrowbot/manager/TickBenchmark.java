@@ -0,0 +1,176 @@
+package com.example.scarecrowbot.manager;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures what scarecrows cost per tick (/scarecrow bench).
+ * <p>
+ * Averages the tick duration from {@link ServerTickEndEvent} with no probes, then spawns the given
+ * number of probe entities per mode (VILLAGER and LIGHTWEIGHT, spawned by the same
+ * {@link ScarecrowManager#spawnEntities} code as real scarecrows) in a grid around the sender, waits for
+ * spawning to settle, averages again and removes them. Probes are not registered, saved or persistent,
+ * so they never turn into scarecrows.
+ * Paper only: Folia has no single server tick to measure.
+ */
+public class TickBenchmark implements Listener {
+
+    private static final String[] MODES = {"VILLAGER", "LIGHTWEIGHT"};
+    private static final long SETTLE_TICKS = 40L;
+    private static final double SPACING = 2.0;
+
+    /**
+     * Average tick duration with one mode's probes loaded
+     *
+     * @param mode Scarecrow mode
+     * @param mspt Average milliseconds per tick
+     */
+    public record ModeResult(String mode, double mspt) {
+    }
+
+    /**
+     * Outcome of a run
+     *
+     * @param count        Probes spawned per mode
+     * @param baselineMspt Average milliseconds per tick without probes
+     * @param modes        Results per mode
+     */
+    public record Result(int count, double baselineMspt, List<ModeResult> modes) {
+    }
+
+    private final ScarecrowBotPlugin plugin;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final List<Entity> probes = new ArrayList<>();
+
+    private double windowTotal;
+    private int windowTicks;
+
+    public TickBenchmark() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+    }
+
+    /**
+     * Run the benchmark (global region thread)
+     *
+     * @param center         Center of the probe grid
+     * @param count          Probes per mode
+     * @param measureSeconds Seconds to average each phase over
+     * @return Future completed on the global region thread, or failed if a run is already going
+     */
+    public CompletableFuture<Result> run(final Location center, final int count, final int measureSeconds) {
+        if (isFolia()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Folia has no single server tick to measure."));
+        }
+        if (!this.running.compareAndSet(false, true)) {
+            return CompletableFuture.failedFuture(new IllegalStateException("A benchmark is already running."));
+        }
+
+        this.plugin.getServer().getPluginManager().registerEvents(this, this.plugin);
+        final long measureTicks = measureSeconds * 20L;
+
+        final CompletableFuture<Result> result = this.measure(measureTicks).thenCompose(baseline ->
+                this.measureModes(center, count, measureTicks, 0, new ArrayList<>())
+                        .thenApply(modes -> new Result(count, baseline, modes)));
+        result.whenComplete((done, throwable) -> this.stop());
+        return result;
+    }
+
+    /**
+     * Remove leftover probes and stop listening (also on disable)
+     */
+    public void stop() {
+        HandlerList.unregisterAll(this);
+        this.removeProbes();
+        this.running.set(false);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(final ServerTickEndEvent event) {
+        this.windowTotal += event.getTickDuration();
+        this.windowTicks++;
+    }
+
+    /**
+     * Measure the modes one after another, each starting once the previous one's probes are gone
+     */
+    private CompletableFuture<List<ModeResult>> measureModes(final Location center, final int count, final long measureTicks,
+                                                             final int index, final List<ModeResult> results) {
+        if (index >= MODES.length) {
+            return CompletableFuture.completedFuture(List.copyOf(results));
+        }
+
+        return this.measureMode(center, MODES[index], count, measureTicks).thenCompose(mspt -> {
+            results.add(new ModeResult(MODES[index], mspt));
+            return this.measureModes(center, count, measureTicks, index + 1, results);
+        });
+    }
+
+    private CompletableFuture<Double> measureMode(final Location center, final String mode, final int count, final long measureTicks) {
+        this.spawnProbes(center, mode, count);
+        return this.delay(SETTLE_TICKS)
+                .thenCompose(ignored -> this.measure(measureTicks))
+                .thenCompose(mspt -> {
+                    this.removeProbes();
+                    return this.delay(SETTLE_TICKS).thenApply(ignored -> mspt);
+                });
+    }
+
+    private void removeProbes() {
+        for (final Entity probe : this.probes) {
+            probe.getPassengers().forEach(Entity::remove);
+            probe.remove();
+        }
+        this.probes.clear();
+    }
+
+    /**
+     * Average the tick duration over the next ticks
+     */
+    private CompletableFuture<Double> measure(final long ticks) {
+        this.windowTotal = 0.0;
+        this.windowTicks = 0;
+        return this.delay(ticks).thenApply(ignored -> this.windowTicks == 0 ? Double.NaN : this.windowTotal / this.windowTicks);
+    }
+
+    private CompletableFuture<Void> delay(final long ticks) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        Bukkit.getGlobalRegionScheduler().runDelayed(this.plugin, task -> done.complete(null), ticks);
+        return done;
+    }
+
+    private void spawnProbes(final Location center, final String mode, final int count) {
+        final ScarecrowManager scarecrowManager = this.plugin.getScarecrowManager();
+        final String botName = this.plugin.getConfig().getString("bot.name", "Scarecrow");
+        final int side = (int) Math.ceil(Math.sqrt(count));
+        final double offset = (side - 1) * SPACING / 2.0;
+
+        for (int i = 0; i < count; i++) {
+            final Location location = center.clone().add((i % side) * SPACING - offset, 0.0, (i / side) * SPACING - offset);
+            final ScarecrowManager.SpawnedEntities spawned = scarecrowManager.spawnEntities(location, botName, mode, false);
+            if (spawned != null) {
+                this.probes.add(spawned.anchor());
+            }
+        }
+    }
+
+    private static boolean isFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (final ClassNotFoundException exception) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.scarecrowbot.manager;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.model.Scarecrow;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-player visibility culling for scarecrows and their displays.
+ * <p>
+ * Players are only re-evaluated when they are marked dirty (chunk change, teleport, join, scarecrow
+ * changes), and dirty players are drained in fixed-size batches each tick instead of scanning every
+ * player against every scarecrow. Each evaluation only looks at the scarecrows indexed in the player's
+ * world. Hidden entities are hidden with {@link Player#hideEntity}, so the
+ * server stops sending their spawn, metadata and name packets to that player.
+ */
+public class VisibilityManager {
+
+    private final ScarecrowBotPlugin plugin;
+
+    private final Queue<Player> dirtyQueue = new ConcurrentLinkedQueue<>();
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Estimated packets not sent thanks to culling (hidden spawns plus suppressed name/HP updates)
+     */
+    private final LongAdder packetsSaved = new LongAdder();
+
+    private volatile boolean enabled;
+    private volatile double maxDistanceSquared;
+    private volatile String permission;
+    private volatile List<String> worlds;
+    private volatile int batchSize;
+
+    private ScheduledTask batchTask;
+
+    public VisibilityManager() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+    }
+
+    /**
+     * Read settings and start the batch task if culling is enabled
+     */
+    public void start() {
+        final FileConfiguration config = this.plugin.getConfig();
+        this.enabled = config.getBoolean("visibility.enabled", false);
+        if (!this.enabled) {
+            return;
+        }
+
+        final double maxDistance = config.getDouble("visibility.maxDistance", 48.0);
+        this.maxDistanceSquared = maxDistance * maxDistance;
+        this.permission = config.getString("visibility.permission", "");
+        this.worlds = config.getStringList("visibility.worlds");
+        this.batchSize = Math.max(1, config.getInt("visibility.batchSize", 20));
+
+        // Not a JobScheduler job: the queue is open-ended, batchSize already caps the work per tick and
+        // each evaluation runs on the player's own thread
+        if (this.batchTask == null) {
+            this.batchTask = Bukkit.getGlobalRegionScheduler().runAtFixedRate(this.plugin, task -> this.processBatch(), 1L, 1L);
+        }
+
+        this.markAllDirty();
+    }
+
+    /**
+     * Stop the batch task
+     */
+    public void stop() {
+        this.enabled = false;
+
+        if (this.batchTask != null) {
+            this.batchTask.cancel();
+            this.batchTask = null;
+        }
+
+        this.dirtyQueue.clear();
+        this.dirtyPlayers.clear();
+
+        // Hidden entities stay hidden until shown again, even once the plugin is gone.
+        // Unloaded scarecrows have no entity to show; the client forgets them on relog
+        for (final Scarecrow scarecrow : this.plugin.getScarecrowManager().getScarecrows()) {
+            final List<Entity> entities = scarecrow.getCullableEntities();
+            for (final UUID playerUuid : scarecrow.getHiddenFrom()) {
+                final Player player = Bukkit.getPlayer(playerUuid);
+                if (player != null) {
+                    this.showAll(player, entities);
+                }
+            }
+            scarecrow.getHiddenFrom().clear();
+        }
+    }
+
+    /**
+     * Queue a player for re-evaluation (no-op if already queued)
+     *
+     * @param player Player to re-evaluate
+     */
+    public void markDirty(final Player player) {
+        if (this.enabled && this.dirtyPlayers.add(player.getUniqueId())) {
+            this.dirtyQueue.add(player);
+        }
+    }
+
+    /**
+     * Queue every online player for re-evaluation
+     */
+    public void markAllDirty() {
+        for (final Player player : Bukkit.getOnlinePlayers()) {
+            this.markDirty(player);
+        }
+    }
+
+    /**
+     * A scarecrow was created, moved, restored or removed
+     */
+    public void onScarecrowChanged() {
+        this.markAllDirty();
+    }
+
+    /**
+     * A scarecrow was bound to its entity (created or its chunk loaded). Players it was hidden from
+     * get its current parts hidden again, so displays spawned since are hidden too and the tracked
+     * state matches what each player sees.
+     *
+     * @param scarecrow Bound scarecrow
+     */
+    public void onScarecrowBound(final Scarecrow scarecrow) {
+        this.hideFromCulled(scarecrow, scarecrow.getParts());
+        this.markAllDirty();
+    }
+
+    /**
+     * Hide a newly spawned entity of a scarecrow (e.g. a damage number display) from the players the
+     * scarecrow is hidden from
+     *
+     * @param scarecrow Owning scarecrow
+     * @param entity    New entity
+     */
+    public void hideFromCulled(final Scarecrow scarecrow, final Entity entity) {
+        this.hideFromCulled(scarecrow, List.of(entity));
+    }
+
+    private void hideFromCulled(final Scarecrow scarecrow, final List<Entity> entities) {
+        for (final UUID playerUuid : scarecrow.getHiddenFrom()) {
+            final Player player = Bukkit.getPlayer(playerUuid);
+            if (player == null) {
+                scarecrow.getHiddenFrom().remove(playerUuid);
+                continue;
+            }
+
+            final Runnable hide = () -> {
+                // evaluate() runs on the player's thread too and may have shown it meanwhile
+                if (scarecrow.getHiddenFrom().contains(playerUuid)) {
+                    for (final Entity entity : entities) {
+                        player.hideEntity(this.plugin, entity);
+                    }
+                }
+            };
+
+            // Hide right away when possible, so the spawn packet is never sent
+            if (Bukkit.isOwnedByCurrentRegion(player)) {
+                hide.run();
+            } else {
+                player.getScheduler().run(this.plugin, task -> hide.run(), null);
+            }
+        }
+    }
+
+    /**
+     * Forget a player that logged out
+     *
+     * @param player Player who quit
+     */
+    public void forget(final Player player) {
+        for (final Scarecrow scarecrow : this.plugin.getScarecrowManager().getScarecrows()) {
+            scarecrow.getHiddenFrom().remove(player.getUniqueId());
+        }
+        this.dirtyPlayers.remove(player.getUniqueId());
+    }
+
+    /**
+     * Record an entity update (name, HP) that hidden players did not receive
+     *
+     * @param scarecrow Scarecrow that was updated
+     */
+    public void recordSuppressedUpdate(final Scarecrow scarecrow) {
+        if (this.enabled) {
+            this.packetsSaved.add(scarecrow.getHiddenFrom().size());
+        }
+    }
+
+    /**
+     * Get the number of (scarecrow, player) pairs currently hidden
+     *
+     * @return Hidden count
+     */
+    public int getHiddenCount() {
+        int hidden = 0;
+        for (final Scarecrow scarecrow : this.plugin.getScarecrowManager().getScarecrows()) {
+            hidden += scarecrow.getHiddenFrom().size();
+        }
+
+        return hidden;
+    }
+
+    /**
+     * Get the estimated number of packets saved since startup
+     *
+     * @return Packets saved
+     */
+    public long getPacketsSaved() {
+        return this.packetsSaved.sum();
+    }
+
+    /**
+     * Check if culling is enabled
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    private void processBatch() {
+        for (int processed = 0; processed < this.batchSize; processed++) {
+            final Player player = this.dirtyQueue.poll();
+            if (player == null) {
+                return;
+            }
+
+            this.dirtyPlayers.remove(player.getUniqueId());
+            if (!player.isOnline()) {
+                continue;
+            }
+
+            // Player location and visibility belong to the player's region
+            player.getScheduler().run(this.plugin, task -> this.evaluate(player), null);
+        }
+    }
+
+    private void evaluate(final Player player) {
+        if (!this.enabled) {
+            return; // Queued before stop(), which has shown everything again
+        }
+
+        final UUID playerUuid = player.getUniqueId();
+        final UUID worldId = player.getWorld().getUID();
+
+        // Scarecrows in other worlds are never sent to this player; they're re-evaluated on world change
+        for (final Scarecrow current : this.plugin.getScarecrowManager().getIndex().inWorld(worldId)) {
+            if (!current.isAlive()) {
+                continue;
+            }
+
+            final boolean visible = this.shouldSee(player, current.getSpawnLocation());
+            final boolean hidden = current.getHiddenFrom().contains(playerUuid);
+
+            if (visible && hidden) {
+                for (final Entity part : current.getCullableEntities()) {
+                    player.showEntity(this.plugin, part);
+                }
+                current.getHiddenFrom().remove(playerUuid);
+            } else if (!visible && !hidden) {
+                for (final Entity part : current.getCullableEntities()) {
+                    player.hideEntity(this.plugin, part);
+                }
+                current.getHiddenFrom().add(playerUuid);
+
+                // One spawn plus one metadata packet per part
+                this.packetsSaved.add(current.getParts().size() * 2L);
+            }
+        }
+    }
+
+    private void showAll(final Player player, final List<Entity> entities) {
+        final Runnable show = () -> {
+            for (final Entity entity : entities) {
+                player.showEntity(this.plugin, entity);
+            }
+        };
+
+        // On disable the plugin can no longer schedule tasks; Paper runs it on the main thread anyway
+        if (Bukkit.isOwnedByCurrentRegion(player)) {
+            show.run();
+        } else if (this.plugin.isEnabled()) {
+            player.getScheduler().run(this.plugin, task -> show.run(), null);
+        }
+    }
+
+    private boolean shouldSee(final Player player, final Location scarecrowLocation) {
+        final String requiredPermission = this.permission;
+        if (requiredPermission != null && !requiredPermission.isEmpty() && !player.hasPermission(requiredPermission)) {
+            return false;
+        }
+
+        final Location playerLocation = player.getLocation();
+        if (!playerLocation.getWorld().equals(scarecrowLocation.getWorld())) {
+            return false;
+        }
+
+        final List<String> allowedWorlds = this.worlds;
+        if (allowedWorlds != null && !allowedWorlds.isEmpty() && !allowedWorlds.contains(playerLocation.getWorld().getName())) {
+            return false;
+        }
+
+        return playerLocation.distanceSquared(scarecrowLocation) <= this.maxDistanceSquared;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.scarecrowbot.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Short per-player conversation context: the last few (normalized) messages, the bot's last few replies to the player
+ * and the last keyword rule that fired. Methods are synchronized since the chat worker and reply
+ * provider threads both use it.
+ */
+public class Conversation {
+
+    private final String[] messages;
+    private int messageCount;
+    private int nextMessage;
+
+    private final String[] replies;
+    private int replyCount;
+    private int nextReply;
+
+    private String lastRule;
+    private long lastActivityMillis;
+
+    public Conversation(final int maxMessages, final int maxReplies) {
+        this.messages = new String[Math.max(1, maxMessages)];
+        this.replies = new String[Math.max(1, maxReplies)];
+        this.lastActivityMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Record a message from the player
+     *
+     * @param message Normalized chat message
+     */
+    public synchronized void addMessage(final String message) {
+        this.messages[this.nextMessage] = message;
+        this.nextMessage = (this.nextMessage + 1) % this.messages.length;
+        this.messageCount = Math.min(this.messageCount + 1, this.messages.length);
+        this.lastActivityMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Get the recent messages, oldest first
+     *
+     * @return Recent normalized messages
+     */
+    public synchronized List<String> getMessages() {
+        final List<String> recent = new ArrayList<>(this.messageCount);
+        final int first = (this.nextMessage - this.messageCount + this.messages.length) % this.messages.length;
+        for (int offset = 0; offset < this.messageCount; offset++) {
+            recent.add(this.messages[(first + offset) % this.messages.length]);
+        }
+
+        return recent;
+    }
+
+    /**
+     * Record the bot's reply to the player
+     *
+     * @param reply Reply text
+     */
+    public synchronized void recordReply(final String reply) {
+        this.replies[this.nextReply] = reply;
+        this.nextReply = (this.nextReply + 1) % this.replies.length;
+        this.replyCount = Math.min(this.replyCount + 1, this.replies.length);
+        this.lastActivityMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Record the keyword rule that fired for the player
+     *
+     * @param rule Rule id
+     */
+    public synchronized void recordRule(final String rule) {
+        this.lastRule = rule;
+    }
+
+    /**
+     * Get the bot's recent replies to the player, newest first
+     *
+     * @return Recent replies
+     */
+    public synchronized List<String> getRecentReplies() {
+        final List<String> recent = new ArrayList<>(this.replyCount);
+        for (int offset = 1; offset <= this.replyCount; offset++) {
+            recent.add(this.replies[(this.nextReply - offset + this.replies.length) % this.replies.length]);
+        }
+
+        return recent;
+    }
+
+    /**
+     * Get the id of the last keyword rule that fired for the player
+     *
+     * @return Rule id, or null
+     */
+    public synchronized String getLastRule() {
+        return this.lastRule;
+    }
+
+    /**
+     * Get the time of the last message or reply
+     *
+     * @return Epoch millis
+     */
+    public synchronized long getLastActivityMillis() {
+        return this.lastActivityMillis;
+    }
+
+    /**
+     * Get the number of stored messages
+     *
+     * @return Message count
+     */
+    public synchronized int getMessageCount() {
+        return this.messageCount;
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.scarecrowbot.model;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Color;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.util.Transformation;
+import org.joml.AxisAngle4f;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-size pool of floating damage number displays for one scarecrow.
+ * <p>
+ * Displays are spawned lazily (at most {@code size} of them) at the anchor's location and then reused
+ * forever: a hit only changes the text and the transformation, and an expired number is blanked instead
+ * of removed. When every slot is busy the oldest number is recycled, so the number of entities never
+ * grows with the hit rate. The float-up animation is done client-side through display interpolation.
+ * <p>
+ * All methods except {@link #getDisplays()} must be called on the thread that owns the anchor entity.
+ */
+public class DamageNumberPool {
+
+    private static final float SPREAD = 0.4f;
+    private static final float RISE = 0.8f;
+
+    private final Entity anchor;
+    private final Consumer<TextDisplay> onSpawn;
+    private final TextDisplay[] displays;
+    private final long[] expiresAtTick;
+    private final boolean[] active;
+    private final boolean[] rising;
+    private final float[] offsetX;
+    private final float[] offsetZ;
+
+    private int next;
+    private long tick;
+    private int activeCount;
+    private ScheduledTask recycleTask;
+
+    /**
+     * Spawned displays, republished on every change so other threads can read them
+     */
+    private volatile List<Entity> spawned = List.of();
+
+    /**
+     * Create an empty pool; displays are spawned on the first hits
+     *
+     * @param anchor  Entity the numbers float above
+     * @param size    Maximum number of numbers shown at once
+     * @param onSpawn Called with each newly spawned display
+     */
+    public DamageNumberPool(final Entity anchor, final int size, final Consumer<TextDisplay> onSpawn) {
+        this.anchor = anchor;
+        this.onSpawn = onSpawn;
+        this.displays = new TextDisplay[size];
+        this.expiresAtTick = new long[size];
+        this.active = new boolean[size];
+        this.rising = new boolean[size];
+        this.offsetX = new float[size];
+        this.offsetZ = new float[size];
+    }
+
+    /**
+     * Show a damage number above the anchor
+     *
+     * @param text          Text to show
+     * @param durationTicks Ticks before the number is recycled
+     */
+    public void show(final Component text, final int durationTicks) {
+        final int slot = this.next;
+        this.next = (slot + 1) % this.displays.length;
+
+        TextDisplay display = this.displays[slot];
+        if (display == null || !display.isValid()) {
+            display = this.spawnDisplay();
+            this.displays[slot] = display;
+            this.publishDisplays();
+            this.onSpawn.accept(display);
+        }
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        this.offsetX[slot] = (random.nextFloat() * 2.0f - 1.0f) * SPREAD;
+        this.offsetZ[slot] = (random.nextFloat() * 2.0f - 1.0f) * SPREAD;
+
+        // Snap to the start position without interpolation, the rise starts on the next tick
+        display.setInterpolationDelay(0);
+        display.setInterpolationDuration(0);
+        display.setTransformation(this.transformation(slot, 0.0f));
+        display.text(text);
+
+        if (!this.active[slot]) {
+            this.active[slot] = true;
+            this.activeCount++;
+        }
+        this.rising[slot] = false;
+        this.expiresAtTick[slot] = this.tick + Math.max(2, durationTicks);
+
+        this.startRecycleTask();
+    }
+
+    /**
+     * Remove all pooled displays (scarecrow removed or moved)
+     */
+    public void clear() {
+        if (this.recycleTask != null) {
+            this.recycleTask.cancel();
+            this.recycleTask = null;
+        }
+
+        for (int slot = 0; slot < this.displays.length; slot++) {
+            if (this.displays[slot] != null) {
+                this.displays[slot].remove();
+                this.displays[slot] = null;
+            }
+            this.active[slot] = false;
+        }
+        this.activeCount = 0;
+        this.spawned = List.of();
+    }
+
+    /**
+     * Get the spawned displays (any thread)
+     *
+     * @return Displays
+     */
+    public List<Entity> getDisplays() {
+        return this.spawned;
+    }
+
+    private void publishDisplays() {
+        final List<Entity> current = new ArrayList<>(this.displays.length);
+        for (final TextDisplay display : this.displays) {
+            if (display != null) {
+                current.add(display);
+            }
+        }
+        this.spawned = List.copyOf(current);
+    }
+
+    private void startRecycleTask() {
+        if (this.recycleTask != null) {
+            return;
+        }
+
+        this.recycleTask = this.anchor.getScheduler().runAtFixedRate(ScarecrowBotPlugin.getInstance(),
+                task -> this.tick(), () -> this.recycleTask = null, 1L, 1L);
+    }
+
+    private void tick() {
+        this.tick++;
+
+        for (int slot = 0; slot < this.displays.length; slot++) {
+            if (!this.active[slot]) {
+                continue;
+            }
+
+            final TextDisplay display = this.displays[slot];
+            if (display == null || !display.isValid()) {
+                this.deactivate(slot);
+                continue;
+            }
+
+            if (this.tick >= this.expiresAtTick[slot]) {
+                display.text(Component.empty());
+                this.deactivate(slot);
+                continue;
+            }
+
+            if (!this.rising[slot]) {
+                // Let the client animate the rise for the rest of the number's lifetime
+                this.rising[slot] = true;
+                display.setInterpolationDelay(0);
+                display.setInterpolationDuration((int) (this.expiresAtTick[slot] - this.tick));
+                display.setTransformation(this.transformation(slot, RISE));
+            }
+        }
+
+        // Nothing left to recycle, stop ticking until the next hit
+        if (this.activeCount == 0 && this.recycleTask != null) {
+            this.recycleTask.cancel();
+            this.recycleTask = null;
+        }
+    }
+
+    private void deactivate(final int slot) {
+        this.active[slot] = false;
+        this.activeCount--;
+    }
+
+    private Transformation transformation(final int slot, final float rise) {
+        final float baseY = (float) this.anchor.getHeight() + 0.2f;
+        return new Transformation(
+                new Vector3f(this.offsetX[slot], baseY + rise, this.offsetZ[slot]),
+                new AxisAngle4f(),
+                new Vector3f(1.0f, 1.0f, 1.0f),
+                new AxisAngle4f());
+    }
+
+    private TextDisplay spawnDisplay() {
+        return this.anchor.getWorld().spawn(this.anchor.getLocation(), TextDisplay.class, display -> {
+            display.setBillboard(Display.Billboard.CENTER);
+            display.setBackgroundColor(Color.fromARGB(0, 0, 0, 0));
+            display.setShadowed(true);
+            display.text(Component.empty());
+            // Pool entries are rebuilt on demand, never saved with the chunk
+            display.setPersistent(false);
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.scarecrowbot.model;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Damage a player dealt to scarecrows within one leaderboard period ("all" or a day).
+ * Guarded by the leaderboard manager's lock.
+ */
+public class DamageStats {
+
+    @Getter
+    private final String period;
+
+    @Getter
+    private final UUID playerId;
+
+    @Getter
+    private String playerName;
+
+    @Getter
+    private double totalDamage;
+
+    @Getter
+    private double bestHit;
+
+    @Getter
+    private double bestDps;
+
+    private long windowStartMillis;
+    private double windowDamage;
+
+    /**
+     * Set while the stats have changes that are not in the database yet
+     */
+    private boolean dirty;
+
+    public DamageStats(final String period, final UUID playerId, final String playerName,
+                       final double totalDamage, final double bestHit, final double bestDps) {
+        this.period = period;
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.totalDamage = totalDamage;
+        this.bestHit = bestHit;
+        this.bestDps = bestDps;
+    }
+
+    /**
+     * Add a hit
+     *
+     * @param name         Current player name
+     * @param damage       Damage dealt
+     * @param nowMillis    Time of the hit
+     * @param windowMillis Length of the DPS window
+     * @return True if the stats were not dirty before (caller queues them for the next flush)
+     */
+    public boolean record(final String name, final double damage, final long nowMillis, final long windowMillis) {
+        this.playerName = name;
+        this.totalDamage += damage;
+        this.bestHit = Math.max(this.bestHit, damage);
+
+        // Fixed windows starting at the first hit; DPS is the damage in the window over its full length
+        if (nowMillis - this.windowStartMillis >= windowMillis) {
+            this.windowStartMillis = nowMillis;
+            this.windowDamage = 0.0;
+        }
+        this.windowDamage += damage;
+        this.bestDps = Math.max(this.bestDps, this.windowDamage * 1000.0 / windowMillis);
+
+        return this.markDirty();
+    }
+
+    /**
+     * Set the dirty flag, e.g. again after a failed flush
+     *
+     * @return True if the stats were not dirty before (caller queues them for the next flush)
+     */
+    public boolean markDirty() {
+        final boolean wasClean = !this.dirty;
+        this.dirty = true;
+        return wasClean;
+    }
+
+    /**
+     * Clear the dirty flag once the stats have been copied for a flush
+     */
+    public void markClean() {
+        this.dirty = false;
+    }
+}
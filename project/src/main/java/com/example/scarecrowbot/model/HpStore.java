@@ -0,0 +1,177 @@
+package com.example.scarecrowbot.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Authoritative HP state of every scarecrow, kept as parallel primitive arrays (struct of arrays).
+ * <p>
+ * Each scarecrow owns a slot for its lifetime; {@link Scarecrow} reads and writes its HP, max HP, last
+ * damage time and loaded flag through that slot. Slots live in fixed-size pages that are never copied or
+ * reallocated, so a slot stays valid while others are added and no write can be lost to a resize. Single
+ * values use volatile array access and can be read or written from any thread; {@link #step} walks the
+ * arrays directly and applies its changes with compare-and-set, so a hit landing in between always wins.
+ */
+public final class HpStore {
+
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private static final VarHandle DOUBLES = MethodHandles.arrayElementVarHandle(double[].class);
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle BOOLEANS = MethodHandles.arrayElementVarHandle(boolean[].class);
+
+    private static final class Page {
+        private final double[] hp = new double[PAGE_SIZE];
+        private final double[] maxHp = new double[PAGE_SIZE];
+        private final long[] lastDamageMillis = new long[PAGE_SIZE];
+        private final boolean[] loaded = new boolean[PAGE_SIZE];
+        private final boolean[] used = new boolean[PAGE_SIZE];
+
+        /**
+         * Only read for slots whose HP changed in {@link #step}
+         */
+        private final Scarecrow[] owners = new Scarecrow[PAGE_SIZE];
+    }
+
+    private volatile Page[] pages = new Page[0];
+
+    /**
+     * One past the highest slot ever handed out
+     */
+    private volatile int highWater;
+
+    private int[] free = new int[0];
+    private int freeCount;
+
+    /**
+     * Hand out a slot and initialize it
+     *
+     * @param owner Scarecrow that will own the slot
+     * @param hp    Current HP
+     * @param maxHp Maximum HP
+     * @return Slot
+     */
+    public synchronized int allocate(final Scarecrow owner, final double hp, final double maxHp) {
+        final int slot;
+        if (this.freeCount > 0) {
+            slot = this.free[--this.freeCount];
+        } else {
+            slot = this.highWater;
+            if ((slot >> PAGE_BITS) >= this.pages.length) {
+                final Page[] grown = Arrays.copyOf(this.pages, this.pages.length + 1);
+                grown[grown.length - 1] = new Page();
+                this.pages = grown;
+            }
+        }
+
+        final Page page = this.page(slot);
+        final int index = slot & PAGE_MASK;
+        DOUBLES.setVolatile(page.hp, index, hp);
+        DOUBLES.setVolatile(page.maxHp, index, maxHp);
+        LONGS.setVolatile(page.lastDamageMillis, index, 0L);
+        BOOLEANS.setVolatile(page.loaded, index, false);
+        page.owners[index] = owner;
+        BOOLEANS.setVolatile(page.used, index, true);
+
+        if (slot == this.highWater) {
+            this.highWater = slot + 1;
+        }
+        return slot;
+    }
+
+    /**
+     * Give a slot back; it may be handed to the next scarecrow
+     *
+     * @param slot Slot from {@link #allocate}
+     */
+    public synchronized void release(final int slot) {
+        final Page page = this.page(slot);
+        final int index = slot & PAGE_MASK;
+        BOOLEANS.setVolatile(page.used, index, false);
+        BOOLEANS.setVolatile(page.loaded, index, false);
+        page.owners[index] = null;
+
+        if (this.freeCount == this.free.length) {
+            this.free = Arrays.copyOf(this.free, Math.max(16, this.free.length * 2));
+        }
+        this.free[this.freeCount++] = slot;
+    }
+
+    public double getHp(final int slot) {
+        return (double) DOUBLES.getVolatile(this.page(slot).hp, slot & PAGE_MASK);
+    }
+
+    public void setHp(final int slot, final double hp) {
+        DOUBLES.setVolatile(this.page(slot).hp, slot & PAGE_MASK, hp);
+    }
+
+    public double getMaxHp(final int slot) {
+        return (double) DOUBLES.getVolatile(this.page(slot).maxHp, slot & PAGE_MASK);
+    }
+
+    public void setMaxHp(final int slot, final double maxHp) {
+        DOUBLES.setVolatile(this.page(slot).maxHp, slot & PAGE_MASK, maxHp);
+    }
+
+    public long getLastDamageMillis(final int slot) {
+        return (long) LONGS.getVolatile(this.page(slot).lastDamageMillis, slot & PAGE_MASK);
+    }
+
+    public void setLastDamageMillis(final int slot, final long timeMillis) {
+        LONGS.setVolatile(this.page(slot).lastDamageMillis, slot & PAGE_MASK, timeMillis);
+    }
+
+    public void setLoaded(final int slot, final boolean loaded) {
+        BOOLEANS.setVolatile(this.page(slot).loaded, slot & PAGE_MASK, loaded);
+    }
+
+    /**
+     * Move the HP of every loaded slot that wasn't hit since {@code idleBefore} by {@code delta}, within
+     * [{@code minHp}, max HP]. Runs over the primitive arrays only; owners are looked up for changed slots.
+     *
+     * @param delta      HP to add (negative to drain)
+     * @param minHp      Lower bound
+     * @param idleBefore Slots damaged at or after this time are skipped
+     * @param changed    Called with the owner and its previous HP for every slot that changed
+     * @return Number of slots changed
+     */
+    public int step(final double delta, final double minHp, final long idleBefore, final ObjDoubleConsumer<Scarecrow> changed) {
+        final Page[] current = this.pages;
+        final int limit = this.highWater;
+
+        int updated = 0;
+        for (int pageIndex = 0; pageIndex < current.length && (pageIndex << PAGE_BITS) < limit; pageIndex++) {
+            final Page page = current[pageIndex];
+            final int end = Math.min(PAGE_SIZE, limit - (pageIndex << PAGE_BITS));
+
+            for (int i = 0; i < end; i++) {
+                // Plain reads: a stale flag or time only delays the step by one run
+                if (!page.used[i] || !page.loaded[i] || page.lastDamageMillis[i] >= idleBefore) {
+                    continue;
+                }
+
+                final double previous = (double) DOUBLES.getVolatile(page.hp, i);
+                final double next = Math.max(minHp, Math.min(page.maxHp[i], previous + delta));
+                if (next == previous || !DOUBLES.compareAndSet(page.hp, i, previous, next)) {
+                    continue;
+                }
+
+                final Scarecrow owner = page.owners[i];
+                if (owner != null) {
+                    changed.accept(owner, previous);
+                }
+                updated++;
+            }
+        }
+
+        return updated;
+    }
+
+    private Page page(final int slot) {
+        return this.pages[slot >> PAGE_BITS];
+    }
+}
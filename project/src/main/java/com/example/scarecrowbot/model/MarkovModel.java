@@ -0,0 +1,346 @@
+package com.example.scarecrowbot.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Word-level n-gram (order 1 or 2) Markov model trained on chat lines.
+ * <p>
+ * Words are interned to int ids and contexts are packed into a long key, stored in an open-addressing
+ * table with primitive successor arrays, so there is no per-transition object. The number of contexts is
+ * capped: when the table fills up, every count is halved and contexts (and words) that drop to zero are
+ * evicted, so rare and old statistics fade out while frequent ones stay.
+ * <p>
+ * Training (chat worker) and generation (reply provider threads) are synchronized on the model; both are
+ * short, bounded operations.
+ */
+public class MarkovModel {
+
+    private static final int START = 0;
+    private static final int END = 1;
+    private static final long EMPTY = -1L;
+
+    /**
+     * Maximum distinct successors kept per context
+     */
+    private static final int MAX_SUCCESSORS = 32;
+
+    /**
+     * Words beyond this are ignored when training on a line
+     */
+    private static final int MAX_WORDS_PER_LINE = 32;
+
+    private final int order;
+    private final int maxContexts;
+
+    // Vocabulary: id -> word and word -> id
+    private final List<String> words = new ArrayList<>();
+    private final Map<String, Integer> wordIds = new HashMap<>();
+
+    // Context table (open addressing, linear probing)
+    private long[] keys;
+    private int[][] successors;
+    private int[][] counts;
+    private int[] successorCount;
+    private int[] totals;
+    private int contextCount;
+
+    private long trainedLines;
+
+    /**
+     * @param order       Context length in words (clamped to 1..2)
+     * @param maxContexts Maximum number of stored contexts
+     */
+    public MarkovModel(final int order, final int maxContexts) {
+        this.order = Math.max(1, Math.min(2, order));
+        this.maxContexts = Math.max(64, maxContexts);
+        this.resetVocabulary();
+        this.allocate(Integer.highestOneBit(this.maxContexts * 2 - 1) << 1);
+    }
+
+    /**
+     * Learn the word transitions of a chat line
+     *
+     * @param line Chat line
+     */
+    public synchronized void train(final String line) {
+        final String[] lineWords = line.trim().split("\\s+");
+        if (lineWords.length == 0 || lineWords[0].isEmpty()) {
+            return;
+        }
+
+        final int wordCount = Math.min(lineWords.length, MAX_WORDS_PER_LINE);
+        int previous = START;
+        int current = START;
+
+        for (int index = 0; index <= wordCount; index++) {
+            final int next = index < wordCount ? this.intern(lineWords[index]) : END;
+            this.addTransition(this.contextKey(previous, current), next);
+            previous = current;
+            current = next;
+        }
+
+        this.trainedLines++;
+
+        // Keep the load factor at most 1/2, so probing stays short
+        if (this.contextCount > this.maxContexts) {
+            this.decay();
+        }
+    }
+
+    /**
+     * Generate a new line
+     *
+     * @param maxWords Maximum number of words
+     * @return Generated line, or null if the model has nothing to say
+     */
+    public synchronized String generate(final int maxWords) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final StringBuilder builder = new StringBuilder();
+        int previous = START;
+        int current = START;
+
+        for (int generated = 0; generated < maxWords; generated++) {
+            final int slot = this.find(this.contextKey(previous, current));
+            if (slot < 0) {
+                break;
+            }
+
+            // Roulette over at most MAX_SUCCESSORS entries
+            int roll = random.nextInt(this.totals[slot]);
+            int next = END;
+            final int[] slotSuccessors = this.successors[slot];
+            final int[] slotCounts = this.counts[slot];
+            for (int index = 0; index < this.successorCount[slot]; index++) {
+                roll -= slotCounts[index];
+                if (roll < 0) {
+                    next = slotSuccessors[index];
+                    break;
+                }
+            }
+
+            if (next == END) {
+                break;
+            }
+
+            if (!builder.isEmpty()) {
+                builder.append(' ');
+            }
+            builder.append(this.words.get(next));
+
+            previous = current;
+            current = next;
+        }
+
+        return builder.isEmpty() ? null : builder.toString();
+    }
+
+    /**
+     * Get the number of lines trained on
+     *
+     * @return Trained line count
+     */
+    public synchronized long getTrainedLines() {
+        return this.trainedLines;
+    }
+
+    /**
+     * Get the number of stored contexts
+     *
+     * @return Context count
+     */
+    public synchronized int getContextCount() {
+        return this.contextCount;
+    }
+
+    private long contextKey(final int previous, final int current) {
+        return this.order == 1 ? current : ((long) previous << 32) | current;
+    }
+
+    private int intern(final String word) {
+        final Integer existing = this.wordIds.get(word);
+        if (existing != null) {
+            return existing;
+        }
+
+        final int id = this.words.size();
+        this.words.add(word);
+        this.wordIds.put(word, id);
+        return id;
+    }
+
+    private int find(final long key) {
+        final int mask = this.keys.length - 1;
+        int slot = this.hash(key) & mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private int findOrInsert(final long key) {
+        final int mask = this.keys.length - 1;
+        int slot = this.hash(key) & mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        this.keys[slot] = key;
+        this.successors[slot] = new int[4];
+        this.counts[slot] = new int[4];
+        this.contextCount++;
+        return slot;
+    }
+
+    private void addTransition(final long key, final int next) {
+        final int slot = this.findOrInsert(key);
+        final int size = this.successorCount[slot];
+        int[] slotSuccessors = this.successors[slot];
+
+        for (int index = 0; index < size; index++) {
+            if (slotSuccessors[index] == next) {
+                this.counts[slot][index]++;
+                this.totals[slot]++;
+                return;
+            }
+        }
+
+        if (size == MAX_SUCCESSORS) {
+            // Full: replace the rarest successor
+            int rarest = 0;
+            for (int index = 1; index < size; index++) {
+                if (this.counts[slot][index] < this.counts[slot][rarest]) {
+                    rarest = index;
+                }
+            }
+            this.totals[slot] += 1 - this.counts[slot][rarest];
+            slotSuccessors[rarest] = next;
+            this.counts[slot][rarest] = 1;
+            return;
+        }
+
+        if (size == slotSuccessors.length) {
+            slotSuccessors = Arrays.copyOf(slotSuccessors, Math.min(MAX_SUCCESSORS, size * 2));
+            this.successors[slot] = slotSuccessors;
+            this.counts[slot] = Arrays.copyOf(this.counts[slot], slotSuccessors.length);
+        }
+
+        slotSuccessors[size] = next;
+        this.counts[slot][size] = 1;
+        this.successorCount[slot] = size + 1;
+        this.totals[slot]++;
+    }
+
+    /**
+     * Halve every count until the table is back to at most half its cap, dropping contexts and words
+     * that are no longer referenced
+     */
+    private void decay() {
+        final long[] oldKeys = this.keys;
+        final int[][] oldSuccessors = this.successors;
+        final int[][] oldCounts = this.counts;
+        final int[] oldSuccessorCount = this.successorCount;
+
+        int live;
+        do {
+            live = 0;
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldKeys[slot] == EMPTY) {
+                    continue;
+                }
+
+                int kept = 0;
+                for (int index = 0; index < oldSuccessorCount[slot]; index++) {
+                    final int halved = oldCounts[slot][index] >> 1;
+                    if (halved > 0) {
+                        oldSuccessors[slot][kept] = oldSuccessors[slot][index];
+                        oldCounts[slot][kept] = halved;
+                        kept++;
+                    }
+                }
+                oldSuccessorCount[slot] = kept;
+
+                if (kept == 0) {
+                    oldKeys[slot] = EMPTY;
+                } else {
+                    live++;
+                }
+            }
+        } while (live > this.maxContexts / 2);
+
+        // Compact the vocabulary to the words still referenced, then rehash with the new ids
+        final List<String> oldWords = new ArrayList<>(this.words);
+        final int[] remap = new int[oldWords.size()];
+        Arrays.fill(remap, -1);
+        this.resetVocabulary();
+        remap[START] = START;
+        remap[END] = END;
+
+        this.allocate(oldKeys.length);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            final long key = oldKeys[slot];
+            if (key == EMPTY) {
+                continue;
+            }
+
+            final int previous = this.remapWord((int) (key >>> 32), oldWords, remap);
+            final int current = this.remapWord((int) key, oldWords, remap);
+            final int newSlot = this.findOrInsert(this.contextKey(previous, current));
+
+            final int size = oldSuccessorCount[slot];
+            final int[] newSuccessors = Arrays.copyOf(oldSuccessors[slot], Math.max(4, size));
+            final int[] newCounts = Arrays.copyOf(oldCounts[slot], newSuccessors.length);
+            int total = 0;
+            for (int index = 0; index < size; index++) {
+                newSuccessors[index] = this.remapWord(newSuccessors[index], oldWords, remap);
+                total += newCounts[index];
+            }
+
+            this.successors[newSlot] = newSuccessors;
+            this.counts[newSlot] = newCounts;
+            this.successorCount[newSlot] = size;
+            this.totals[newSlot] = total;
+        }
+    }
+
+    private int remapWord(final int oldId, final List<String> oldWords, final int[] remap) {
+        if (remap[oldId] < 0) {
+            remap[oldId] = this.intern(oldWords.get(oldId));
+        }
+
+        return remap[oldId];
+    }
+
+    private void resetVocabulary() {
+        this.words.clear();
+        this.wordIds.clear();
+        this.words.add(""); // START
+        this.words.add(""); // END
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity];
+        Arrays.fill(this.keys, EMPTY);
+        this.successors = new int[capacity][];
+        this.counts = new int[capacity][];
+        this.successorCount = new int[capacity];
+        this.totals = new int[capacity];
+        this.contextCount = 0;
+    }
+
+    private int hash(final long key) {
+        final long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.scarecrowbot.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.entity.LivingEntity;
+
+import java.util.UUID;
+
+/**
+ * One slot of the private dummy pool.
+ * <p>
+ * A slot keeps its entity for as long as the entity stays loaded: releasing a dummy only hides it and
+ * clears the owner, and the next claim repositions and resets the same entity. The entity is only
+ * respawned when it was lost (its chunk unloaded, pooled entities are never saved).
+ */
+public class PrivateDummy {
+
+    /**
+     * Position in the pool, stable for the lifetime of the pool
+     */
+    @Getter
+    private final int slot;
+
+    /**
+     * Pooled entity, or null/invalid when it has to be spawned again
+     */
+    @Getter
+    @Setter
+    private volatile LivingEntity entity;
+
+    /**
+     * Player the dummy currently belongs to, or null while it is free
+     */
+    @Getter
+    @Setter
+    private volatile UUID owner;
+
+    @Getter
+    @Setter
+    private volatile String ownerName;
+
+    @Getter
+    @Setter
+    private volatile double currentHp;
+
+    @Getter
+    @Setter
+    private volatile double maxHp;
+
+    /**
+     * Time the dummy was last summoned or hit, used to release idle dummies
+     */
+    @Getter
+    private volatile long lastUsedMillis;
+
+    public PrivateDummy(final int slot) {
+        this.slot = slot;
+    }
+
+    /**
+     * Check if the pooled entity can be reused
+     *
+     * @return True if the entity exists and is still in a loaded chunk
+     */
+    public boolean hasEntity() {
+        final LivingEntity current = this.entity;
+        return current != null && current.isValid();
+    }
+
+    /**
+     * Check if the dummy belongs to a player
+     *
+     * @return True if claimed
+     */
+    public boolean isClaimed() {
+        return this.owner != null;
+    }
+
+    /**
+     * Record that the dummy was just used
+     */
+    public void touch() {
+        this.lastUsedMillis = System.currentTimeMillis();
+    }
+}
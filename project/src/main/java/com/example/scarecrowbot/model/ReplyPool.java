@@ -0,0 +1,130 @@
+package com.example.scarecrowbot.model;
+
+import com.example.scarecrowbot.util.AliasTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted set of replies, compiled from the config once.
+ * <p>
+ * Entries are either plain strings (weight 1) or maps with {@code text} and {@code weight}.
+ * Picking is O(1) through an alias table. The pool is immutable, so picks need no lock: the replies to
+ * avoid (the last one said to the player, or the last {@code avoidLast}) are passed in from the player's
+ * {@link Conversation}. When the pool is too small for that, repeats are allowed.
+ */
+public class ReplyPool {
+
+    /**
+     * Redraws before giving up on avoiding a recent reply (keeps picking O(1) with heavy weights)
+     */
+    private static final int MAX_REDRAWS = 8;
+
+    private final List<String> replies;
+    private final AliasTable table;
+
+    /**
+     * Number of most recent replies to avoid, at least 1 and always less than the pool size
+     */
+    private final int avoidCount;
+
+    private ReplyPool(final List<String> replies, final double[] weights, final int avoidLast) {
+        this.replies = List.copyOf(replies);
+        this.table = replies.isEmpty() ? null : new AliasTable(weights);
+        this.avoidCount = Math.max(0, Math.min(Math.max(1, avoidLast), replies.size() - 1));
+    }
+
+    /**
+     * Compile a reply pool from a raw config list
+     *
+     * @param rawValue  Config value (list of strings or text/weight maps)
+     * @param avoidLast Number of recent picks to avoid repeating
+     * @return Reply pool (possibly empty)
+     */
+    public static ReplyPool fromConfig(final Object rawValue, final int avoidLast) {
+        final List<String> replies = new ArrayList<>();
+        final List<Double> weights = new ArrayList<>();
+
+        if (rawValue instanceof List<?> list) {
+            for (final Object element : list) {
+                String text = null;
+                double weight = 1.0;
+
+                if (element instanceof Map<?, ?> map) {
+                    final Object rawText = map.get("text");
+                    text = rawText != null ? rawText.toString() : null;
+                    if (map.get("weight") instanceof Number number) {
+                        weight = number.doubleValue();
+                    }
+                } else if (element != null) {
+                    text = element.toString();
+                }
+
+                if (text == null || text.isBlank() || !(weight > 0.0)) {
+                    continue;
+                }
+
+                replies.add(text.trim());
+                weights.add(weight);
+            }
+        }
+
+        final double[] weightArray = new double[weights.size()];
+        for (int index = 0; index < weightArray.length; index++) {
+            weightArray[index] = weights.get(index);
+        }
+
+        return new ReplyPool(replies, weightArray, avoidLast);
+    }
+
+    /**
+     * Pick a reply
+     *
+     * @return Reply, or null if the pool is empty
+     */
+    public String pick() {
+        return this.pick(List.of());
+    }
+
+    /**
+     * Pick a reply, avoiding the most recent replies said to the player
+     *
+     * @param recentReplies Replies said to the player, newest first (see {@link Conversation#getRecentReplies()})
+     * @return Reply, or null if the pool is empty
+     */
+    public String pick(final List<String> recentReplies) {
+        if (this.table == null) {
+            return null;
+        }
+
+        final int avoid = Math.min(this.avoidCount, recentReplies.size());
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = this.table.sample(random);
+        for (int attempt = 0; attempt < MAX_REDRAWS && this.isRecent(this.replies.get(index), recentReplies, avoid); attempt++) {
+            index = this.table.sample(random);
+        }
+
+        return this.replies.get(index);
+    }
+
+    /**
+     * Check if the pool has no replies
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty() {
+        return this.replies.isEmpty();
+    }
+
+    private boolean isRecent(final String reply, final List<String> recentReplies, final int avoid) {
+        for (int index = 0; index < avoid; index++) {
+            if (reply.equals(recentReplies.get(index))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
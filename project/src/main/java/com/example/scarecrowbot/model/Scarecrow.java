@@ -0,0 +1,409 @@
+package com.example.scarecrowbot.model;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.api.ScarecrowSnapshot;
+import io.papermc.paper.entity.TeleportFlag;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * State of a single scarecrow.
+ * <p>
+ * The entity itself may only be touched from the region thread that owns it, so every entity
+ * mutation goes through {@link #runOnEntity(Consumer)}. The cached values (name, spawn location) are
+ * volatile and HP state lives in the shared {@link HpStore}, so both can be read from any thread
+ * (commands, async chat) without hopping threads.
+ * <p>
+ * The anchor entity is either a {@link LivingEntity} (VILLAGER/ZOMBIE mode) or an
+ * {@link org.bukkit.entity.Interaction} hitbox carrying display entities as passengers (LIGHTWEIGHT mode).
+ * A scarecrow outlives its entity object: when its chunk unloads it is unbound, and it is bound to the
+ * new entity object once the chunk's entities load again.
+ */
+public class Scarecrow {
+
+    /**
+     * UUID of the anchor entity, stable across chunk unloads and restarts
+     */
+    @Getter
+    private final UUID uuid;
+
+    @Getter
+    private volatile Entity entity;
+
+    /**
+     * Separate nameplate display, or null when the anchor's custom name is used
+     */
+    @Getter
+    private volatile TextDisplay nameplate;
+
+    /**
+     * Interpolated health bar display, or null when disabled
+     */
+    @Getter
+    private volatile TextDisplay healthBar;
+
+    /**
+     * Anchor entity plus the displays riding it, captured on bind so other threads can use it
+     */
+    @Getter
+    private volatile List<Entity> parts = List.of();
+
+    /**
+     * Players this scarecrow is currently hidden from (visibility culling). Kept across unbind/bind:
+     * players keep their hidden entities across chunk reloads too
+     */
+    @Getter
+    private final Set<UUID> hiddenFrom = ConcurrentHashMap.newKeySet();
+
+    @Getter
+    private volatile Location spawnLocation;
+
+    @Getter
+    private volatile String botName;
+
+    /**
+     * HP, max HP, last damage time and loaded flag live in this store slot
+     */
+    private final HpStore hpStore;
+    private volatile int slot;
+
+    /**
+     * Immutable copy of the state above, republished on every change (read by the public API)
+     */
+    @Getter
+    private volatile ScarecrowSnapshot snapshot;
+
+    /**
+     * Set while an async teleport is in flight, so the position lock doesn't fight it
+     */
+    @Getter
+    @Setter
+    private volatile boolean teleportPending;
+
+    private volatile ScheduledTask positionLockTask;
+
+    /**
+     * Set while a coalesced (trailing) name update is scheduled
+     */
+    private final AtomicBoolean nameUpdateScheduled = new AtomicBoolean();
+    private volatile long lastNameUpdateMillis;
+
+    /**
+     * Last record read from or written to the entity's PDC (entity thread only)
+     */
+    @Getter
+    @Setter
+    private ScarecrowRecord record;
+
+    /**
+     * Floating damage numbers, created on the first hit (changed on the entity thread only)
+     */
+    private volatile DamageNumberPool damageNumbers;
+
+    public Scarecrow(final HpStore hpStore, final UUID uuid, final Location spawnLocation, final String botName,
+                     final double currentHp, final double maxHp) {
+        this.hpStore = hpStore;
+        this.uuid = uuid;
+        this.spawnLocation = spawnLocation.clone();
+        this.botName = botName;
+        this.slot = hpStore.allocate(this, currentHp, maxHp);
+        this.publishSnapshot();
+    }
+
+    public void setSpawnLocation(final Location spawnLocation) {
+        this.spawnLocation = spawnLocation.clone();
+        this.publishSnapshot();
+    }
+
+    public void setBotName(final String botName) {
+        this.botName = botName;
+        this.publishSnapshot();
+    }
+
+    public double getCurrentHp() {
+        final int current = this.slot;
+        return current < 0 ? 0.0 : this.hpStore.getHp(current);
+    }
+
+    public void setCurrentHp(final double currentHp) {
+        final int current = this.slot;
+        if (current >= 0) {
+            this.hpStore.setHp(current, currentHp);
+        }
+        this.publishSnapshot();
+    }
+
+    public double getMaxHp() {
+        final int current = this.slot;
+        return current < 0 ? 0.0 : this.hpStore.getMaxHp(current);
+    }
+
+    public void setMaxHp(final double maxHp) {
+        final int current = this.slot;
+        if (current >= 0) {
+            this.hpStore.setMaxHp(current, maxHp);
+        }
+        this.publishSnapshot();
+    }
+
+    /**
+     * Bind the scarecrow to a loaded entity. Must be called on the entity's thread.
+     *
+     * @param entity    Anchor entity
+     * @param nameplate Nameplate display, or null
+     * @param healthBar Health bar display, or null
+     */
+    public void bind(final Entity entity, final TextDisplay nameplate, final TextDisplay healthBar) {
+        this.nameplate = nameplate;
+        this.healthBar = healthBar;
+
+        final List<Entity> allParts = new ArrayList<>();
+        allParts.add(entity);
+        allParts.addAll(entity.getPassengers());
+        this.parts = List.copyOf(allParts);
+        this.nameUpdateScheduled.set(false);
+
+        this.entity = entity;
+        this.setLoaded(true);
+        this.publishSnapshot();
+    }
+
+    /**
+     * Unbind from the entity (its chunk unloaded). The scarecrow's state is kept.
+     */
+    public void unbind() {
+        this.stopPositionLock();
+        this.damageNumbers = null; // Pool displays are non-persistent and unload with the chunk
+        this.record = null;
+        this.entity = null;
+        this.nameplate = null;
+        this.healthBar = null;
+        this.parts = List.of();
+        this.setLoaded(false);
+        this.publishSnapshot();
+    }
+
+    /**
+     * Record that the scarecrow just took damage
+     */
+    public void markDamaged() {
+        final int current = this.slot;
+        if (current >= 0) {
+            this.hpStore.setLastDamageMillis(current, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Get the time of the last damage taken, used to delay regeneration
+     *
+     * @return Time in milliseconds, 0 if never hit
+     */
+    public long getLastDamageMillis() {
+        final int current = this.slot;
+        return current < 0 ? 0L : this.hpStore.getLastDamageMillis(current);
+    }
+
+    /**
+     * Give the HP slot back once the scarecrow is removed. HP reads return 0 afterwards and writes are dropped.
+     */
+    public void releaseHp() {
+        final int current = this.slot;
+        if (current >= 0) {
+            this.slot = -1;
+            this.hpStore.release(current);
+        }
+    }
+
+    /**
+     * Republish the snapshot after the HP was changed directly in the {@link HpStore}
+     */
+    public void refreshSnapshot() {
+        this.publishSnapshot();
+    }
+
+    /**
+     * Check if the scarecrow is bound to a valid entity
+     *
+     * @return True if the entity is loaded and not dead
+     */
+    public boolean isAlive() {
+        final Entity current = this.entity;
+        return current != null && !current.isDead();
+    }
+
+    /**
+     * Check if this scarecrow uses the lightweight (non-living) entity mode
+     *
+     * @return True if the anchor is not a living entity
+     */
+    public boolean isLightweight() {
+        return !(this.entity instanceof LivingEntity);
+    }
+
+    /**
+     * Run an action on the thread that owns the entity.
+     * Runs immediately if the current thread already owns it (always the case on the main thread on Paper),
+     * otherwise it is scheduled on the entity's scheduler. Does nothing while the entity is unloaded.
+     *
+     * @param action Action to run with the entity
+     */
+    public void runOnEntity(final Consumer<Entity> action) {
+        final Entity current = this.entity;
+        if (current == null) {
+            return;
+        }
+
+        if (Bukkit.isOwnedByCurrentRegion(current)) {
+            action.accept(current);
+            return;
+        }
+
+        current.getScheduler().run(ScarecrowBotPlugin.getInstance(), task -> action.accept(current), null);
+    }
+
+    /**
+     * Request a name render, rate-limited to one every {@code intervalTicks}.
+     * The first change after a quiet period renders immediately; changes arriving within the interval
+     * are coalesced into a single trailing render that sees the latest state.
+     *
+     * @param intervalTicks Minimum ticks between renders
+     * @param render        Render action, run on the entity's thread
+     */
+    public void requestNameUpdate(final long intervalTicks, final Consumer<Entity> render) {
+        final Entity current = this.entity;
+        if (current == null || !this.nameUpdateScheduled.compareAndSet(false, true)) {
+            return; // Unloaded, or coalesced into the pending update
+        }
+
+        final long elapsedTicks = (System.currentTimeMillis() - this.lastNameUpdateMillis) / 50L;
+        final Consumer<Entity> flush = entity -> {
+            this.nameUpdateScheduled.set(false);
+            this.lastNameUpdateMillis = System.currentTimeMillis();
+            render.accept(entity);
+        };
+
+        if (elapsedTicks >= intervalTicks) {
+            this.runOnEntity(flush);
+            return;
+        }
+
+        final ScheduledTask task = current.getScheduler().runDelayed(ScarecrowBotPlugin.getInstance(),
+                scheduled -> flush.accept(current), () -> this.nameUpdateScheduled.set(false),
+                Math.max(1L, intervalTicks - elapsedTicks));
+        if (task == null) {
+            this.nameUpdateScheduled.set(false); // Entity already removed
+        }
+    }
+
+    /**
+     * Get the damage number pool, creating it on first use. Must be called on the entity's thread.
+     *
+     * @param size    Pool size (maximum number of numbers shown at once)
+     * @param onSpawn Called with each newly spawned display
+     * @return Damage number pool
+     */
+    public DamageNumberPool getDamageNumbers(final int size, final Consumer<TextDisplay> onSpawn) {
+        if (this.damageNumbers == null) {
+            this.damageNumbers = new DamageNumberPool(this.entity, Math.max(1, size), onSpawn);
+        }
+
+        return this.damageNumbers;
+    }
+
+    /**
+     * Get everything culled together with the scarecrow: its parts plus pooled damage number displays
+     *
+     * @return Entities
+     */
+    public List<Entity> getCullableEntities() {
+        final DamageNumberPool pool = this.damageNumbers;
+        if (pool == null || pool.getDisplays().isEmpty()) {
+            return this.parts;
+        }
+
+        final List<Entity> entities = new ArrayList<>(this.parts);
+        entities.addAll(pool.getDisplays());
+        return entities;
+    }
+
+    /**
+     * Remove pooled damage number displays. Must be called on the entity's thread.
+     */
+    public void clearDamageNumbers() {
+        if (this.damageNumbers != null) {
+            this.damageNumbers.clear();
+            this.damageNumbers = null;
+        }
+    }
+
+    /**
+     * Start the position lock on the entity's own scheduler.
+     * Lightweight scarecrows have no physics and never move on their own, so they don't need one.
+     *
+     * @param periodTicks Period between checks in ticks
+     */
+    public void startPositionLock(final long periodTicks) {
+        final Entity current = this.entity;
+        if (this.positionLockTask != null || current == null || this.isLightweight()) {
+            return; // Already running or not needed
+        }
+
+        this.positionLockTask = current.getScheduler().runAtFixedRate(ScarecrowBotPlugin.getInstance(), task -> {
+            if (this.teleportPending || current.isDead()) {
+                return;
+            }
+
+            final Location target = this.spawnLocation;
+            final Location currentLocation = current.getLocation();
+
+            if (!currentLocation.getWorld().equals(target.getWorld()) || currentLocation.distanceSquared(target) > 0.01) {
+                current.teleportAsync(target, PlayerTeleportEvent.TeleportCause.PLUGIN,
+                        TeleportFlag.EntityState.RETAIN_PASSENGERS);
+                current.setVelocity(current.getVelocity().zero());
+            }
+        }, () -> this.positionLockTask = null, periodTicks, periodTicks);
+    }
+
+    /**
+     * Stop the position lock task
+     */
+    public void stopPositionLock() {
+        final ScheduledTask task = this.positionLockTask;
+        if (task != null) {
+            task.cancel();
+            this.positionLockTask = null;
+        }
+    }
+
+    private void setLoaded(final boolean loaded) {
+        final int current = this.slot;
+        if (current >= 0) {
+            this.hpStore.setLoaded(current, loaded);
+        }
+    }
+
+    /**
+     * Publish a new immutable snapshot of the current state
+     */
+    private void publishSnapshot() {
+        final Location location = this.spawnLocation;
+        final UUID worldId = location.getWorld() != null ? location.getWorld().getUID() : null;
+        this.snapshot = new ScarecrowSnapshot(this.uuid, this.botName, worldId,
+                location.getX(), location.getY(), location.getZ(), this.getCurrentHp(), this.getMaxHp(), this.entity != null);
+    }
+}
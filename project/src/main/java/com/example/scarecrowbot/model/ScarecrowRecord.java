@@ -0,0 +1,40 @@
+package com.example.scarecrowbot.model;
+
+import java.util.UUID;
+
+/**
+ * Everything a scarecrow entity stores about itself, kept in its PDC as a single packed record
+ * (see {@link com.example.scarecrowbot.util.ScarecrowRecordType}).
+ * <p>
+ * New fields only need a new tag in the record type; entities written before the field existed
+ * simply decode it as its default.
+ *
+ * @param currentHp  Current HP
+ * @param maxHp      Maximum HP
+ * @param botName    Display name
+ * @param owner      UUID of the owning player, or null
+ * @param templateId Template the scarecrow was created from, or null
+ */
+public record ScarecrowRecord(double currentHp, double maxHp, String botName, UUID owner, String templateId) {
+
+    /**
+     * Create the record of a freshly spawned scarecrow
+     *
+     * @param botName Display name
+     * @param maxHp   Maximum HP (also the starting HP)
+     * @return New record
+     */
+    public static ScarecrowRecord create(final String botName, final double maxHp) {
+        return new ScarecrowRecord(maxHp, maxHp, botName, null, null);
+    }
+
+    /**
+     * Copy this record with a different HP
+     *
+     * @param hp New HP
+     * @return Updated record
+     */
+    public ScarecrowRecord withHp(final double hp) {
+        return new ScarecrowRecord(hp, this.maxHp, this.botName, this.owner, this.templateId);
+    }
+}
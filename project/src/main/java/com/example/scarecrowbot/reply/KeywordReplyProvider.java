@@ -0,0 +1,227 @@
+package com.example.scarecrowbot.reply;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.manager.CooldownManager;
+import com.example.scarecrowbot.model.Conversation;
+import com.example.scarecrowbot.model.ReplyPool;
+import com.example.scarecrowbot.util.TextNormalizer;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replies when a message contains one of a rule's keywords.
+ * A rule with {@code after} only fires as a follow-up: when the player's last rule hit was that rule id,
+ * or when one of the player's earlier remembered messages matches that rule (it may have gone unanswered
+ * because of a cooldown or chat sampling). Follow-up rules are checked before the others and are exempt
+ * from the per-player cooldown.
+ * <p>
+ * Keywords are normalized once when the config loads and matched against the normalized message, so
+ * spacing, punctuation, full-width letters and repeated characters don't matter. With
+ * bot.keywordReplies.chosung, Hangul keywords also match when typed as initial consonants.
+ */
+public class KeywordReplyProvider implements ReplyProvider {
+
+    /**
+     * Keyword rule compiled from the config
+     */
+    private record KeywordRule(String id, String after, List<String> keywords, ReplyPool replies) {
+
+        /**
+         * Check if a normalized message contains any keyword
+         */
+        boolean matches(final String normalized) {
+            for (final String keyword : this.keywords) {
+                if (normalized.contains(keyword)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private final ScarecrowBotPlugin plugin;
+    private final CooldownManager cooldownManager;
+
+    private volatile List<KeywordRule> keywordRules = List.of();
+
+    public KeywordReplyProvider() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+        this.cooldownManager = this.plugin.getCooldownManager();
+        this.reload();
+    }
+
+    @Override
+    public String getName() {
+        return "keyword";
+    }
+
+    @Override
+    public int getDefaultPriority() {
+        return 100;
+    }
+
+    @Override
+    public void reload() {
+        this.prepareReload(this.plugin.getConfig()).run();
+    }
+
+    @Override
+    public List<String> getConfigPaths() {
+        return List.of("bot.keywordReplies", "bot.avoidRepeatLast");
+    }
+
+    /**
+     * Compile the keyword rules (with their alias tables) from the config
+     */
+    @Override
+    public Runnable prepareReload(final FileConfiguration config) {
+        final int avoidLast = config.getInt("bot.avoidRepeatLast", 0);
+        final boolean chosung = config.getBoolean("bot.keywordReplies.chosung", false);
+
+        final List<KeywordRule> followUps = new ArrayList<>();
+        final List<KeywordRule> rules = new ArrayList<>();
+        final List<Map<?, ?>> rawRules = config.getMapList("bot.keywordReplies.rules");
+        for (int index = 0; index < rawRules.size(); index++) {
+            final Map<?, ?> rule = rawRules.get(index);
+            final List<String> keywords = this.compileKeywords(this.asStringList(rule.get("keywords")), chosung);
+            final ReplyPool replies = ReplyPool.fromConfig(rule.get("replies"), avoidLast);
+
+            if (keywords.isEmpty() || replies.isEmpty()) {
+                continue;
+            }
+
+            final Object id = rule.get("id");
+            final Object after = rule.get("after");
+            final KeywordRule compiled = new KeywordRule(id != null ? id.toString() : "rule-" + index,
+                    after != null ? after.toString() : null, keywords, replies);
+            (compiled.after() != null ? followUps : rules).add(compiled);
+        }
+
+        followUps.addAll(rules);
+        final List<KeywordRule> compiled = List.copyOf(followUps);
+        return () -> this.keywordRules = compiled;
+    }
+
+    @Override
+    public String reply(final ReplyContext context) {
+        final FileConfiguration config = this.plugin.getConfig();
+
+        if (!config.getBoolean("bot.keywordReplies.enabled", true)) {
+            return null;
+        }
+
+        final Player player = context.player();
+        final String normalized = context.normalized();
+        final Conversation conversation = context.conversation();
+        final int globalCooldown = config.getInt("bot.keywordReplies.cooldownSecondsGlobal", 2);
+        final int playerCooldown = config.getInt("bot.keywordReplies.cooldownSecondsPerPlayer", 6);
+
+        // Check global cooldown
+        if (this.cooldownManager.isOnGlobalCooldown("keyword")) {
+            return null;
+        }
+
+        // Check player cooldown (follow-ups answer the bot, so they are exempt)
+        final boolean onPlayerCooldown = this.cooldownManager.isOnPlayerCooldown(player.getUniqueId(), "keyword");
+
+        final List<KeywordRule> rules = this.keywordRules;
+        final String lastRule = conversation.getLastRule();
+        List<String> earlier = null;
+        for (final KeywordRule rule : rules) {
+            if (rule.after() == null) {
+                if (onPlayerCooldown) {
+                    continue;
+                }
+            } else if (!rule.after().equals(lastRule)) {
+                // Recent messages, oldest first; the last one is this message
+                if (earlier == null) {
+                    final List<String> messages = conversation.getMessages();
+                    earlier = messages.subList(0, Math.max(0, messages.size() - 1));
+                }
+                if (!this.matchedEarlier(rules, rule.after(), earlier)) {
+                    continue;
+                }
+            }
+
+            // Check if message contains any keyword
+            if (rule.matches(normalized)) {
+                // Set cooldowns
+                this.cooldownManager.setGlobalCooldown("keyword", globalCooldown);
+                this.cooldownManager.setPlayerCooldown(player.getUniqueId(), "keyword", playerCooldown);
+
+                // Return weighted random reply from this rule, not repeating the recent replies to this player
+                conversation.recordRule(rule.id());
+                return rule.replies().pick(conversation.getRecentReplies());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Check if any earlier message matches the rule with the given id
+     */
+    private boolean matchedEarlier(final List<KeywordRule> rules, final String ruleId, final List<String> earlier) {
+        for (final KeywordRule rule : rules) {
+            if (!rule.id().equals(ruleId)) {
+                continue;
+            }
+
+            for (final String message : earlier) {
+                if (rule.matches(message)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private List<String> compileKeywords(final List<String> rawKeywords, final boolean chosung) {
+        final List<String> keywords = new ArrayList<>();
+
+        for (final String rawKeyword : rawKeywords) {
+            final String keyword = TextNormalizer.normalize(rawKeyword);
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            keywords.add(keyword);
+
+            // Initials of a single syllable would match far too much
+            if (chosung && TextNormalizer.hasHangulSyllables(keyword)) {
+                final String initials = TextNormalizer.chosung(keyword);
+                if (initials.length() >= 2 && !keywords.contains(initials)) {
+                    keywords.add(initials);
+                }
+            }
+        }
+
+        return keywords;
+    }
+
+    private List<String> asStringList(final Object rawValue) {
+        if (rawValue instanceof List<?> list) {
+            final List<String> results = new ArrayList<>();
+
+            for (final Object element : list) {
+                if (element == null) {
+                    continue;
+                }
+
+                final String text = element.toString().trim();
+                if (!text.isEmpty()) {
+                    results.add(text);
+                }
+            }
+
+            return results;
+        }
+
+        return List.of();
+    }
+}
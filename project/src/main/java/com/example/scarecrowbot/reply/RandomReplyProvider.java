@@ -0,0 +1,137 @@
+package com.example.scarecrowbot.reply;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import com.example.scarecrowbot.manager.CooldownManager;
+import com.example.scarecrowbot.model.MarkovModel;
+import com.example.scarecrowbot.model.ReplyPool;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Replies by chance with a generated line or one of the configured random messages
+ */
+public class RandomReplyProvider implements ReplyProvider {
+
+    private final ScarecrowBotPlugin plugin;
+    private final CooldownManager cooldownManager;
+
+    private volatile ReplyPool randomMessages;
+
+    /**
+     * Reply generator trained on server chat, or null when disabled
+     */
+    private final MarkovModel generator;
+
+    public RandomReplyProvider() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+        this.cooldownManager = this.plugin.getCooldownManager();
+        this.reload();
+
+        final FileConfiguration config = this.plugin.getConfig();
+        this.generator = config.getBoolean("bot.generator.enabled", false)
+                ? new MarkovModel(config.getInt("bot.generator.order", 2), config.getInt("bot.generator.maxContexts", 20000))
+                : null;
+    }
+
+    @Override
+    public String getName() {
+        return "random";
+    }
+
+    @Override
+    public int getDefaultPriority() {
+        return 10;
+    }
+
+    @Override
+    public void reload() {
+        this.prepareReload(this.plugin.getConfig()).run();
+    }
+
+    @Override
+    public List<String> getConfigPaths() {
+        return List.of("bot.randomReply.messages", "bot.avoidRepeatLast");
+    }
+
+    /**
+     * Compile the random messages (with their alias table) from the config
+     */
+    @Override
+    public Runnable prepareReload(final FileConfiguration config) {
+        final ReplyPool compiled = ReplyPool.fromConfig(config.getList("bot.randomReply.messages"), config.getInt("bot.avoidRepeatLast", 0));
+        return () -> this.randomMessages = compiled;
+    }
+
+    /**
+     * Learn from every message, including ones the bot doesn't answer
+     */
+    @Override
+    public void learn(final String message) {
+        if (this.generator != null) {
+            this.generator.train(message);
+        }
+    }
+
+    @Override
+    public String reply(final ReplyContext context) {
+        final FileConfiguration config = this.plugin.getConfig();
+
+        if (!config.getBoolean("bot.randomReply.enabled", true)) {
+            return null;
+        }
+
+        final Player player = context.player();
+        final int chancePercent = config.getInt("bot.randomReply.chancePercent", 10);
+        final int globalCooldown = config.getInt("bot.randomReply.cooldownSecondsGlobal", 3);
+        final int playerCooldown = config.getInt("bot.randomReply.cooldownSecondsPerPlayer", 8);
+
+        // Check global cooldown
+        if (this.cooldownManager.isOnGlobalCooldown("random")) {
+            return null;
+        }
+
+        // Check player cooldown
+        if (this.cooldownManager.isOnPlayerCooldown(player.getUniqueId(), "random")) {
+            return null;
+        }
+
+        // Roll chance
+        final int roll = ThreadLocalRandom.current().nextInt(100);
+        if (roll >= chancePercent) {
+            return null;
+        }
+
+        // Get a generated line, or a random message if the generator has nothing to say
+        String reply = this.generateReply(config);
+        if (reply == null) {
+            reply = this.randomMessages.pick(context.conversation().getRecentReplies());
+        }
+
+        if (reply == null) {
+            return null;
+        }
+
+        // Set cooldowns
+        this.cooldownManager.setGlobalCooldown("random", globalCooldown);
+        this.cooldownManager.setPlayerCooldown(player.getUniqueId(), "random", playerCooldown);
+
+        return reply;
+    }
+
+    /**
+     * Generate a reply from the chat-trained model once it has seen enough messages
+     *
+     * @param config Plugin config
+     * @return Generated line, or null
+     */
+    private String generateReply(final FileConfiguration config) {
+        if (this.generator == null || this.generator.getTrainedLines() < config.getInt("bot.generator.minTrainingMessages", 50)) {
+            return null;
+        }
+
+        return this.generator.generate(config.getInt("bot.generator.maxWords", 16));
+    }
+}
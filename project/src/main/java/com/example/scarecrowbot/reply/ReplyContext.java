@@ -0,0 +1,16 @@
+package com.example.scarecrowbot.reply;
+
+import com.example.scarecrowbot.model.Conversation;
+import org.bukkit.entity.Player;
+
+/**
+ * Chat message handed to reply providers
+ *
+ * @param player       Player who sent the message
+ * @param message      Message content (lowercase)
+ * @param normalized   Message normalized for matching (see TextNormalizer)
+ * @param botName      Name of the answering bot
+ * @param conversation Recent conversation with the player (already includes this message)
+ */
+public record ReplyContext(Player player, String message, String normalized, String botName, Conversation conversation) {
+}
@@ -0,0 +1,83 @@
+package com.example.scarecrowbot.reply;
+
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.List;
+
+/**
+ * Source of bot replies to chat.
+ * <p>
+ * Providers are asked in order of priority (highest first) until one returns a reply. Each call runs on
+ * its own virtual thread with a timeout, so a provider may block (e.g. on an HTTP request) without
+ * holding up chat threads or the server tick. A call still running at the timeout is interrupted, so
+ * blocking calls should respond to interruption. Implementations must be thread-safe.
+ */
+public interface ReplyProvider {
+
+    /**
+     * Get the provider name, also used as its config section under bot.providers
+     *
+     * @return Provider name
+     */
+    String getName();
+
+    /**
+     * Get the default priority; bot.providers.&lt;name&gt;.priority overrides it
+     *
+     * @return Priority (higher is asked first)
+     */
+    int getDefaultPriority();
+
+    /**
+     * Check if the provider is enabled when bot.providers.&lt;name&gt;.enabled is not set
+     *
+     * @return True if enabled by default
+     */
+    default boolean isEnabledByDefault() {
+        return true;
+    }
+
+    /**
+     * Produce a reply to a chat message
+     *
+     * @param context Message and sender
+     * @return Reply, or null to let the next provider answer
+     * @throws Exception If the provider failed (the next provider is asked)
+     */
+    String reply(ReplyContext context) throws Exception;
+
+    /**
+     * Observe a chat message, whether or not it gets a reply (chat worker thread)
+     *
+     * @param message Chat message
+     */
+    default void learn(final String message) {
+    }
+
+    /**
+     * Re-read settings from the config
+     */
+    default void reload() {
+    }
+
+    /**
+     * Get the config paths this provider compiles state from; /scarecrow reload only rebuilds a provider
+     * when one of them changed. Settings read on every reply don't need to be listed.
+     *
+     * @return Config paths (prefixes)
+     */
+    default List<String> getConfigPaths() {
+        return List.of();
+    }
+
+    /**
+     * Compile new state from a config without publishing it (any thread).
+     * The returned action publishes the state and is run once the new config is swapped in.
+     *
+     * @param config Config to compile from
+     * @return Action publishing the compiled state
+     */
+    default Runnable prepareReload(final FileConfiguration config) {
+        return this::reload;
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.scarecrowbot.reply;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+/**
+ * Runs chat messages through the reply providers in priority order.
+ * <p>
+ * Every provider call runs on a virtual thread and is interrupted after bot.providers.timeoutMillis, so
+ * the caller only ever gets a future and never waits. If a provider fails or times out the next one is
+ * asked; if none answers after a failure, the configured fallback reply is used.
+ */
+public class ReplyService {
+
+    private final ScarecrowBotPlugin plugin;
+    private final List<ReplyProvider> registered = new ArrayList<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Enabled providers, highest priority first
+     */
+    private volatile List<ReplyProvider> chain = List.of();
+
+    public ReplyService() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+    }
+
+    /**
+     * Register a provider (takes effect on the next {@link #reload()})
+     *
+     * @param provider Provider to register
+     */
+    public void register(final ReplyProvider provider) {
+        this.registered.add(provider);
+    }
+
+    /**
+     * Re-read provider settings and rebuild the priority chain
+     */
+    public void reload() {
+        this.prepareReload(this.plugin.getConfig(), provider -> true).run();
+    }
+
+    /**
+     * Rebuild the selected providers and the priority chain from a config without publishing them (any thread)
+     *
+     * @param config  Config to compile from
+     * @param rebuild Providers whose compiled state must be rebuilt
+     * @return Action publishing the providers' new state and the new chain
+     */
+    public Runnable prepareReload(final FileConfiguration config, final Predicate<ReplyProvider> rebuild) {
+        final List<ReplyProvider> enabled = new ArrayList<>();
+        final List<Runnable> commits = new ArrayList<>();
+
+        for (final ReplyProvider provider : this.registered) {
+            if (rebuild.test(provider)) {
+                commits.add(provider.prepareReload(config));
+            }
+
+            final String path = "bot.providers." + provider.getName();
+            if (config.getBoolean(path + ".enabled", provider.isEnabledByDefault())) {
+                enabled.add(provider);
+            }
+        }
+
+        enabled.sort(Comparator.comparingInt((ReplyProvider provider) -> this.getPriority(provider, config)).reversed());
+        final List<ReplyProvider> newChain = List.copyOf(enabled);
+
+        return () -> {
+            commits.forEach(Runnable::run);
+            this.chain = newChain;
+        };
+    }
+
+    /**
+     * Get the registered providers
+     *
+     * @return Providers, in registration order
+     */
+    public List<ReplyProvider> getProviders() {
+        return List.copyOf(this.registered);
+    }
+
+    /**
+     * Let every provider observe a chat message
+     *
+     * @param message Chat message
+     */
+    public void learn(final String message) {
+        for (final ReplyProvider provider : this.chain) {
+            provider.learn(message);
+        }
+    }
+
+    /**
+     * Ask the providers for a reply
+     *
+     * @param context Message and sender
+     * @return Future completed with the reply, or null if the bot stays silent
+     */
+    public CompletableFuture<String> reply(final ReplyContext context) {
+        final FileConfiguration config = this.plugin.getConfig();
+        final long timeoutMillis = Math.max(1L, config.getLong("bot.providers.timeoutMillis", 250L));
+        final String fallbackReply = config.getString("bot.providers.fallbackReply", "");
+
+        return this.ask(this.chain, 0, context, timeoutMillis, false).thenApply(result -> {
+            if (result.reply() != null) {
+                return result.reply();
+            }
+
+            return result.failed() && !fallbackReply.isEmpty() ? fallbackReply : null;
+        });
+    }
+
+    /**
+     * Stop the executor, interrupting provider calls still in flight
+     */
+    public void shutdown() {
+        this.executor.shutdownNow();
+        try {
+            this.executor.awaitTermination(1L, TimeUnit.SECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(String reply, boolean failed) {
+    }
+
+    private CompletableFuture<Result> ask(final List<ReplyProvider> providers, final int index, final ReplyContext context,
+                                          final long timeoutMillis, final boolean failed) {
+        if (index >= providers.size()) {
+            return CompletableFuture.completedFuture(new Result(null, failed));
+        }
+
+        final ReplyProvider provider = providers.get(index);
+        return this.submit(provider, context, timeoutMillis)
+                .handle((reply, throwable) -> {
+                    if (throwable != null) {
+                        this.plugin.getLogger().log(Level.FINE, "Reply provider " + provider.getName() + " failed", throwable);
+                        return this.ask(providers, index + 1, context, timeoutMillis, true);
+                    }
+
+                    if (reply != null) {
+                        return CompletableFuture.completedFuture(new Result(reply, failed));
+                    }
+
+                    return this.ask(providers, index + 1, context, timeoutMillis, failed);
+                })
+                .thenCompose(next -> next);
+    }
+
+    /**
+     * Run one provider call on its own virtual thread, interrupting it if it is still running at the timeout
+     * so slow providers don't pile up calls (and side effects) in the background
+     */
+    private CompletableFuture<String> submit(final ReplyProvider provider, final ReplyContext context, final long timeoutMillis) {
+        final CompletableFuture<String> result = new CompletableFuture<>();
+        final Future<?> task = this.executor.submit(() -> {
+            try {
+                result.complete(this.call(provider, context));
+            } catch (final RuntimeException exception) {
+                result.completeExceptionally(exception);
+            }
+        });
+
+        result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((reply, throwable) -> {
+            if (throwable instanceof TimeoutException) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private String call(final ReplyProvider provider, final ReplyContext context) {
+        try {
+            return provider.reply(context);
+        } catch (final RuntimeException exception) {
+            throw exception;
+        } catch (final Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private int getPriority(final ReplyProvider provider, final FileConfiguration config) {
+        return config.getInt("bot.providers." + provider.getName() + ".priority", provider.getDefaultPriority());
+    }
+}
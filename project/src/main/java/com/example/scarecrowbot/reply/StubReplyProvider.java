@@ -0,0 +1,47 @@
+package com.example.scarecrowbot.reply;
+
+import com.example.scarecrowbot.ScarecrowBotPlugin;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * Local stand-in for an external (e.g. HTTP) model: answers every message with a fixed template after
+ * a configurable delay. Useful to test provider ordering, timeouts and the fallback reply offline.
+ */
+public class StubReplyProvider implements ReplyProvider {
+
+    private final ScarecrowBotPlugin plugin;
+
+    public StubReplyProvider() {
+        this.plugin = ScarecrowBotPlugin.getInstance();
+    }
+
+    @Override
+    public String getName() {
+        return "stub";
+    }
+
+    @Override
+    public int getDefaultPriority() {
+        return 50;
+    }
+
+    @Override
+    public boolean isEnabledByDefault() {
+        return false;
+    }
+
+    @Override
+    public String reply(final ReplyContext context) throws InterruptedException {
+        final FileConfiguration config = this.plugin.getConfig();
+
+        // Simulate network latency (blocks only this provider's virtual thread)
+        final long delayMillis = config.getLong("bot.providers.stub.delayMillis", 100L);
+        if (delayMillis > 0) {
+            Thread.sleep(delayMillis);
+        }
+
+        return config.getString("bot.providers.stub.reply", "(stub) {message}")
+                .replace("{message}", context.message())
+                .replace("{player}", context.player().getName());
+    }
+}
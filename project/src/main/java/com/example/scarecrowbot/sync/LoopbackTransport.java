@@ -0,0 +1,59 @@
+package com.example.scarecrowbot.sync;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport: every started instance on the same channel receives what the others send.
+ * Delivery is synchronous on the sender's thread. Useful for testing sync between several managers in
+ * one JVM; on a single real server it simply has no peers.
+ */
+public class LoopbackTransport implements SyncTransport {
+
+    private static final Map<String, Set<LoopbackTransport>> CHANNELS = new ConcurrentHashMap<>();
+
+    private final String channel;
+    private volatile Consumer<byte[]> receiver;
+
+    public LoopbackTransport(final String channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public String getName() {
+        return "loopback:" + this.channel;
+    }
+
+    @Override
+    public void start(final Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        CHANNELS.computeIfAbsent(this.channel, key -> ConcurrentHashMap.newKeySet()).add(this);
+    }
+
+    @Override
+    public boolean send(final byte[] payload) {
+        final Set<LoopbackTransport> peers = CHANNELS.get(this.channel);
+        if (peers == null) {
+            return false;
+        }
+
+        for (final LoopbackTransport peer : peers) {
+            final Consumer<byte[]> peerReceiver = peer.receiver;
+            if (peer != this && peerReceiver != null) {
+                peerReceiver.accept(payload.clone());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void stop() {
+        this.receiver = null;
+        final Set<LoopbackTransport> peers = CHANNELS.get(this.channel);
+        if (peers != null) {
+            peers.remove(this);
+        }
+    }
+}
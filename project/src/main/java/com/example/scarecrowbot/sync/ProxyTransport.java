@@ -0,0 +1,104 @@
+package com.example.scarecrowbot.sync;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.messaging.PluginMessageListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Transport over the proxy's plugin messaging channel (BungeeCord/Velocity "Forward" to ALL servers).
+ * <p>
+ * Needs no extra service, but plugin messages travel through a player connection: a server with no
+ * players online can neither send nor receive. Missed batches are harmless, the next batch carries the
+ * latest state of every scarecrow that changed since.
+ */
+public class ProxyTransport implements SyncTransport, PluginMessageListener {
+
+    private static final String CHANNEL = "BungeeCord";
+    private static final String SUBCHANNEL = "ScarecrowBotSync";
+
+    /**
+     * Forwarded data is length-prefixed with a (signed) short by the proxy
+     */
+    public static final int MAX_PAYLOAD_SIZE = 0x7FFF;
+
+    private final Plugin plugin;
+    private volatile Consumer<byte[]> receiver;
+
+    public ProxyTransport(final Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public String getName() {
+        return "proxy";
+    }
+
+    @Override
+    public void start(final Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        Bukkit.getMessenger().registerOutgoingPluginChannel(this.plugin, CHANNEL);
+        Bukkit.getMessenger().registerIncomingPluginChannel(this.plugin, CHANNEL, this);
+    }
+
+    @Override
+    public boolean send(final byte[] payload) {
+        if (payload.length > MAX_PAYLOAD_SIZE) {
+            return false;
+        }
+
+        final Iterator<? extends Player> players = Bukkit.getOnlinePlayers().iterator();
+        if (!players.hasNext()) {
+            return false; // No connection to the proxy to send through
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF("Forward");
+            out.writeUTF("ALL");
+            out.writeUTF(SUBCHANNEL);
+            out.writeShort(payload.length);
+            out.write(payload);
+        } catch (final IOException exception) {
+            return false;
+        }
+
+        players.next().sendPluginMessage(this.plugin, CHANNEL, bytes.toByteArray());
+        return true;
+    }
+
+    @Override
+    public void onPluginMessageReceived(final String channel, final Player player, final byte[] message) {
+        final Consumer<byte[]> current = this.receiver;
+        if (!CHANNEL.equals(channel) || current == null) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message))) {
+            if (!SUBCHANNEL.equals(in.readUTF())) {
+                return;
+            }
+
+            final byte[] payload = new byte[in.readUnsignedShort()];
+            in.readFully(payload);
+            current.accept(payload);
+        } catch (final IOException exception) {
+            // Not one of ours (other subchannels use other layouts)
+        }
+    }
+
+    @Override
+    public void stop() {
+        this.receiver = null;
+        Bukkit.getMessenger().unregisterIncomingPluginChannel(this.plugin, CHANNEL, this);
+        Bukkit.getMessenger().unregisterOutgoingPluginChannel(this.plugin, CHANNEL);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.scarecrowbot.sync;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One sync message: the latest HP of every scarecrow that changed since the previous batch, plus new
+ * global cooldowns. A batch replaces all changes made within a flush interval, however many hits that was.
+ * <p>
+ * Layout: version byte, origin UUID, sequence, then a count-prefixed list of HP updates
+ * ({@code key, hp, version}) and of cooldown updates ({@code key, expiresAt}).
+ *
+ * @param origin          Server instance that sent the batch (random per startup)
+ * @param sequence        Per-origin batch number, increasing by one per batch
+ * @param hpUpdates       Changed HP values
+ * @param cooldownUpdates Changed global cooldowns
+ */
+public record SyncBatch(UUID origin, long sequence, List<HpUpdate> hpUpdates, List<CooldownUpdate> cooldownUpdates) {
+
+    /**
+     * Current layout version
+     */
+    public static final byte VERSION = 1;
+
+    /**
+     * Latest HP of a scarecrow
+     *
+     * @param key     Scarecrow sync key (lower-case name)
+     * @param hp      HP after the change
+     * @param version Logical clock value of the change, ordered with the origin as tie-break
+     */
+    public record HpUpdate(String key, double hp, long version) {
+    }
+
+    /**
+     * Global cooldown expiry
+     *
+     * @param key       Cooldown key
+     * @param expiresAt Expiry time in epoch milliseconds
+     */
+    public record CooldownUpdate(String key, long expiresAt) {
+    }
+
+    /**
+     * Encode the batch
+     *
+     * @return Payload bytes
+     */
+    public byte[] encode() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + this.hpUpdates.size() * 32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(this.origin.getMostSignificantBits());
+            out.writeLong(this.origin.getLeastSignificantBits());
+            out.writeLong(this.sequence);
+
+            out.writeShort(this.hpUpdates.size());
+            for (final HpUpdate update : this.hpUpdates) {
+                out.writeUTF(update.key());
+                out.writeDouble(update.hp());
+                out.writeLong(update.version());
+            }
+
+            out.writeShort(this.cooldownUpdates.size());
+            for (final CooldownUpdate update : this.cooldownUpdates) {
+                out.writeUTF(update.key());
+                out.writeLong(update.expiresAt());
+            }
+        } catch (final IOException exception) {
+            throw new IllegalStateException("Failed to encode sync batch", exception);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode a batch
+     *
+     * @param payload Payload bytes
+     * @return Decoded batch
+     * @throws IOException If the payload is truncated or has an unknown version
+     */
+    public static SyncBatch decode(final byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            final byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported sync batch version " + version);
+            }
+
+            final UUID origin = new UUID(in.readLong(), in.readLong());
+            final long sequence = in.readLong();
+
+            final int hpCount = in.readUnsignedShort();
+            final List<HpUpdate> hpUpdates = new ArrayList<>(hpCount);
+            for (int i = 0; i < hpCount; i++) {
+                hpUpdates.add(new HpUpdate(in.readUTF(), in.readDouble(), in.readLong()));
+            }
+
+            final int cooldownCount = in.readUnsignedShort();
+            final List<CooldownUpdate> cooldownUpdates = new ArrayList<>(cooldownCount);
+            for (int i = 0; i < cooldownCount; i++) {
+                cooldownUpdates.add(new CooldownUpdate(in.readUTF(), in.readLong()));
+            }
+
+            return new SyncBatch(origin, sequence, hpUpdates, cooldownUpdates);
+        }
+    }
+}
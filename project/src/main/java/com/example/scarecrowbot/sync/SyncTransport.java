@@ -0,0 +1,41 @@
+package com.example.scarecrowbot.sync;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries sync batches between servers.
+ * <p>
+ * A transport only moves opaque payloads; ordering, duplicates and merging are handled by the sync
+ * manager, so a transport may drop, repeat or reorder messages. Other plugins can supply their own
+ * (Redis, a database, ...) by registering an implementation in Bukkit's ServicesManager and setting
+ * {@code sync.transport} to {@code SERVICE}. Implementations must be thread-safe.
+ */
+public interface SyncTransport {
+
+    /**
+     * Get the transport name, shown in /scarecrow status
+     *
+     * @return Transport name
+     */
+    String getName();
+
+    /**
+     * Start receiving. Payloads from other servers are passed to the receiver on any thread.
+     *
+     * @param receiver Receiver for incoming payloads
+     */
+    void start(Consumer<byte[]> receiver);
+
+    /**
+     * Send a payload to every other server (called from an async thread)
+     *
+     * @param payload Encoded batch
+     * @return True if the payload was handed to the transport
+     */
+    boolean send(byte[] payload);
+
+    /**
+     * Stop receiving and release resources
+     */
+    void stop();
+}
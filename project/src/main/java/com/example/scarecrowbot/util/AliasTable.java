@@ -0,0 +1,100 @@
+package com.example.scarecrowbot.util;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Walker/Vose alias table for O(1) sampling from a fixed discrete distribution.
+ * <p>
+ * Built once from the weights (O(n)); every sample then costs one random index and one random
+ * double, whatever the number of entries. Immutable and safe to share between threads.
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Build a table from non-negative weights. Entries with weight 0 are never sampled;
+     * if every weight is 0 the distribution is uniform.
+     *
+     * @param weights Weight per entry
+     */
+    public AliasTable(final double[] weights) {
+        final int size = weights.length;
+        if (size == 0) {
+            throw new IllegalArgumentException("Alias table needs at least one weight");
+        }
+
+        this.probability = new double[size];
+        this.alias = new int[size];
+
+        double total = 0.0;
+        for (final double weight : weights) {
+            if (weight < 0.0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("Weights must be non-negative: " + weight);
+            }
+            total += weight;
+        }
+
+        // Scale so the average weight is 1, then pair every small entry with a large one
+        final double[] scaled = new double[size];
+        for (int index = 0; index < size; index++) {
+            scaled[index] = total > 0.0 ? weights[index] * size / total : 1.0;
+        }
+
+        final int[] small = new int[size];
+        final int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int index = 0; index < size; index++) {
+            if (scaled[index] < 1.0) {
+                small[smallCount++] = index;
+            } else {
+                large[largeCount++] = index;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            final int less = small[--smallCount];
+            final int more = large[--largeCount];
+
+            this.probability[less] = scaled[less];
+            this.alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Leftovers are 1 up to rounding error
+        while (largeCount > 0) {
+            this.probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            this.probability[small[--smallCount]] = 1.0;
+        }
+    }
+
+    /**
+     * Sample an entry index
+     *
+     * @param random Random source (use ThreadLocalRandom.current() to avoid contention)
+     * @return Index in [0, size)
+     */
+    public int sample(final RandomGenerator random) {
+        final int column = random.nextInt(this.probability.length);
+        return random.nextDouble() < this.probability[column] ? column : this.alias[column];
+    }
+
+    /**
+     * Get the number of entries
+     *
+     * @return Size
+     */
+    public int size() {
+        return this.probability.length;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.scarecrowbot.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Re-runnable timing of {@link TextNormalizer} on mixed Korean and English chat
+ * (/scarecrow bench text, or standalone: {@code java -cp <plugin jar> com.example.scarecrowbot.util.NormalizerBenchmark [rounds]}).
+ * <p>
+ * Each case runs over the same generated messages (fixed seed) after a warm-up, so runs are comparable
+ * between machines and versions. Only pure Java is used, no server is needed.
+ */
+public final class NormalizerBenchmark {
+
+    private static final int MESSAGES = 1000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final long SEED = 42L;
+
+    private static final String[] KOREAN = {"안녕", "하세요", "허수아비", "때리자", "반가워", "뭐해", "고마워", "오늘", "같이", "놀자"};
+    private static final String[] ENGLISH = {"hello", "scarecrow", "hit", "me", "good", "game", "nice", "lol", "come", "here"};
+    private static final String[] PUNCTUATION = {"!", "?", ".", "~", ",", "...", "!?", "-", "\"", "(", ")"};
+
+    /**
+     * Timing of one case
+     *
+     * @param name            Case name
+     * @param nanosPerMessage Average nanoseconds per message
+     */
+    public record CaseResult(String name, double nanosPerMessage) {
+    }
+
+    private NormalizerBenchmark() {
+    }
+
+    /**
+     * Run every case
+     *
+     * @param rounds Measured passes over the messages per case
+     * @return Results, in case order
+     */
+    public static List<CaseResult> run(final int rounds) {
+        final List<CaseResult> results = new ArrayList<>();
+        results.add(time("plain mixed", messages(new Random(SEED), false, false, false), rounds, false));
+        results.add(time("full/half-width", messages(new Random(SEED), true, false, false), rounds, false));
+        results.add(time("punctuation", messages(new Random(SEED), false, true, false), rounds, false));
+        results.add(time("repeated characters", messages(new Random(SEED), false, false, true), rounds, false));
+        results.add(time("all of the above", messages(new Random(SEED), true, true, true), rounds, false));
+        results.add(time("normalize + chosung", messages(new Random(SEED), true, true, true), rounds, true));
+        return results;
+    }
+
+    /**
+     * Print the results of a standalone run
+     *
+     * @param args Optional number of rounds (default 1000)
+     */
+    public static void main(final String[] args) {
+        final int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        for (final CaseResult result : run(rounds)) {
+            System.out.printf("%-22s %8.1f ns/message%n", result.name(), result.nanosPerMessage());
+        }
+    }
+
+    private static CaseResult time(final String name, final String[] messages, final int rounds, final boolean chosung) {
+        long sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += pass(messages, chosung);
+        }
+
+        final long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            sink += pass(messages, chosung);
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        // Keep the results alive so the JIT can't drop the work
+        if (sink == Long.MIN_VALUE) {
+            System.out.print("");
+        }
+
+        return new CaseResult(name, (double) elapsed / ((long) rounds * messages.length));
+    }
+
+    private static long pass(final String[] messages, final boolean chosung) {
+        long length = 0;
+        for (final String message : messages) {
+            final String normalized = TextNormalizer.normalize(message);
+            length += chosung ? TextNormalizer.chosung(normalized).length() : normalized.length();
+        }
+        return length;
+    }
+
+    /**
+     * Generate chat lines of 2-6 Korean/English words with the requested variations
+     */
+    private static String[] messages(final Random random, final boolean fullWidth, final boolean punctuation, final boolean repeats) {
+        final String[] messages = new String[MESSAGES];
+        for (int index = 0; index < MESSAGES; index++) {
+            final StringBuilder builder = new StringBuilder();
+            final int words = 2 + random.nextInt(5);
+
+            for (int word = 0; word < words; word++) {
+                if (word > 0) {
+                    builder.append(fullWidth && random.nextBoolean() ? '　' : ' ');
+                }
+
+                String text = random.nextBoolean()
+                        ? KOREAN[random.nextInt(KOREAN.length)]
+                        : ENGLISH[random.nextInt(ENGLISH.length)];
+                if (fullWidth && random.nextBoolean()) {
+                    text = toFullWidth(text);
+                }
+                builder.append(text);
+
+                if (repeats && random.nextInt(3) == 0) {
+                    final char last = text.charAt(text.length() - 1);
+                    builder.append(String.valueOf(last).repeat(2 + random.nextInt(6)));
+                }
+                if (punctuation && random.nextInt(2) == 0) {
+                    builder.append(PUNCTUATION[random.nextInt(PUNCTUATION.length)]);
+                }
+            }
+
+            if (repeats && random.nextInt(4) == 0) {
+                builder.append("ㅋ".repeat(3 + random.nextInt(8)));
+            }
+            messages[index] = builder.toString();
+        }
+
+        return messages;
+    }
+
+    /**
+     * Map ASCII letters to their full-width forms (U+FF01..)
+     */
+    private static String toFullWidth(final String text) {
+        final StringBuilder builder = new StringBuilder(text.length());
+        for (int index = 0; index < text.length(); index++) {
+            final char character = text.charAt(index);
+            builder.append(character >= '!' && character <= '~' ? (char) (character - '!' + 0xFF01) : character);
+        }
+        return builder.toString();
+    }
+}
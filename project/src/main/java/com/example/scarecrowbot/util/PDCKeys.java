@@ -11,22 +11,37 @@ import org.bukkit.NamespacedKey;
 public class PDCKeys {
 
     /**
-     * Marker to identify scarecrow entities
+     * Packed scarecrow record (HP, max HP, name and optional fields), see {@link ScarecrowRecordType}
+     */
+    public static final NamespacedKey SCARECROW_DATA = new NamespacedKey(ScarecrowBotPlugin.getInstance(), "scarecrow_data");
+
+    /**
+     * Marker to identify scarecrow entities (legacy layout, only read to migrate old entities)
      */
     public static final NamespacedKey SCARECROW_MARKER = new NamespacedKey(ScarecrowBotPlugin.getInstance(), "scarecrow_marker");
 
     /**
-     * Current HP of the scarecrow
+     * Current HP of the scarecrow (legacy layout)
      */
     public static final NamespacedKey SCARECROW_HP = new NamespacedKey(ScarecrowBotPlugin.getInstance(), "scarecrow_hp");
 
     /**
-     * Maximum HP of the scarecrow
+     * Maximum HP of the scarecrow (legacy layout)
      */
     public static final NamespacedKey SCARECROW_MAX_HP = new NamespacedKey(ScarecrowBotPlugin.getInstance(), "scarecrow_max_hp");
 
     /**
-     * Display name of the scarecrow
+     * Display name of the scarecrow (legacy layout)
      */
     public static final NamespacedKey SCARECROW_NAME = new NamespacedKey(ScarecrowBotPlugin.getInstance(), "scarecrow_name");
+
+    /**
+     * Role of a display entity riding a scarecrow (model, nameplate, health bar)
+     */
+    public static final NamespacedKey SCARECROW_PART = new NamespacedKey(ScarecrowBotPlugin.getInstance(), "scarecrow_part");
+
+    /**
+     * Marker on pooled private dummy entities
+     */
+    public static final NamespacedKey PRIVATE_DUMMY = new NamespacedKey(ScarecrowBotPlugin.getInstance(), "private_dummy");
 }
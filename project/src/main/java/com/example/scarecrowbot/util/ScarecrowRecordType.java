@@ -0,0 +1,144 @@
+package com.example.scarecrowbot.util;
+
+import com.example.scarecrowbot.model.ScarecrowRecord;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Packs a {@link ScarecrowRecord} into one byte array, so a scarecrow costs a single NBT tag.
+ * <p>
+ * Layout: a version byte, then tagged fields ({@code tag:u8, length:u16, payload}). Unknown tags are
+ * skipped and missing tags decode as their defaults, so fields can be added without bumping the version
+ * or touching entities that were written earlier. Optional fields are only written when set.
+ */
+public final class ScarecrowRecordType implements PersistentDataType<byte[], ScarecrowRecord> {
+
+    public static final ScarecrowRecordType INSTANCE = new ScarecrowRecordType();
+
+    /**
+     * Current layout version, bumped only if the framing itself changes
+     */
+    public static final byte VERSION = 1;
+
+    private static final byte TAG_HP = 1;
+    private static final byte TAG_MAX_HP = 2;
+    private static final byte TAG_NAME = 3;
+    private static final byte TAG_OWNER = 4;
+    private static final byte TAG_TEMPLATE = 5;
+
+    private static final int HEADER_SIZE = 3;
+    private static final int MAX_FIELD_LENGTH = 0xFFFF;
+
+    private ScarecrowRecordType() {
+    }
+
+    @Override
+    public Class<byte[]> getPrimitiveType() {
+        return byte[].class;
+    }
+
+    @Override
+    public Class<ScarecrowRecord> getComplexType() {
+        return ScarecrowRecord.class;
+    }
+
+    @Override
+    public byte[] toPrimitive(final ScarecrowRecord record, final PersistentDataAdapterContext context) {
+        final byte[] name = truncate(record.botName().getBytes(StandardCharsets.UTF_8));
+        final byte[] template = record.templateId() != null ? truncate(record.templateId().getBytes(StandardCharsets.UTF_8)) : null;
+
+        int size = 1 + (HEADER_SIZE + Double.BYTES) * 2 + HEADER_SIZE + name.length;
+        if (record.owner() != null) {
+            size += HEADER_SIZE + Long.BYTES * 2;
+        }
+        if (template != null) {
+            size += HEADER_SIZE + template.length;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(VERSION);
+        header(buffer, TAG_HP, Double.BYTES).putDouble(record.currentHp());
+        header(buffer, TAG_MAX_HP, Double.BYTES).putDouble(record.maxHp());
+        header(buffer, TAG_NAME, name.length).put(name);
+        if (record.owner() != null) {
+            header(buffer, TAG_OWNER, Long.BYTES * 2)
+                    .putLong(record.owner().getMostSignificantBits())
+                    .putLong(record.owner().getLeastSignificantBits());
+        }
+        if (template != null) {
+            header(buffer, TAG_TEMPLATE, template.length).put(template);
+        }
+
+        return buffer.array();
+    }
+
+    @Override
+    public ScarecrowRecord fromPrimitive(final byte[] bytes, final PersistentDataAdapterContext context) {
+        double currentHp = 0.0;
+        double maxHp = 0.0;
+        String botName = "";
+        UUID owner = null;
+        String templateId = null;
+
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            buffer.get(); // Version, every version so far shares the tagged framing
+
+            while (buffer.remaining() >= HEADER_SIZE) {
+                final byte tag = buffer.get();
+                final int length = Short.toUnsignedInt(buffer.getShort());
+                final int end = buffer.position() + length;
+
+                switch (tag) {
+                    case TAG_HP -> currentHp = buffer.getDouble();
+                    case TAG_MAX_HP -> maxHp = buffer.getDouble();
+                    case TAG_NAME -> botName = string(buffer, length);
+                    case TAG_OWNER -> owner = new UUID(buffer.getLong(), buffer.getLong());
+                    case TAG_TEMPLATE -> templateId = string(buffer, length);
+                    default -> {
+                        // Field from a newer version, skip it
+                    }
+                }
+
+                buffer.position(end);
+            }
+        } catch (final BufferUnderflowException | IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Corrupt scarecrow record (" + bytes.length + " bytes)", exception);
+        }
+
+        return new ScarecrowRecord(currentHp, maxHp, botName, owner, templateId);
+    }
+
+    private static ByteBuffer header(final ByteBuffer buffer, final byte tag, final int length) {
+        return buffer.put(tag).putShort((short) length);
+    }
+
+    private static String string(final ByteBuffer buffer, final int length) {
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException(); // Reported as a corrupt record
+        }
+
+        final String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static byte[] truncate(final byte[] bytes) {
+        if (bytes.length <= MAX_FIELD_LENGTH) {
+            return bytes;
+        }
+
+        // Cut before the character that would be split: back up over UTF-8 continuation bytes (10xxxxxx)
+        int end = MAX_FIELD_LENGTH;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return Arrays.copyOf(bytes, end);
+    }
+}
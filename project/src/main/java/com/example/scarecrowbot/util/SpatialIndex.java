@@ -0,0 +1,262 @@
+package com.example.scarecrowbot.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Spatial index keyed by world and packed chunk coordinates.
+ * <p>
+ * Writes (create, move, remove, chunk load) are rare and serialized; reads (nearest scarecrow, range
+ * queries) are frequent, come from any thread and never lock. Each chunk cell is a copy-on-write list,
+ * so a reader always sees a consistent cell.
+ *
+ * @param <T> Indexed value type
+ */
+public class SpatialIndex<T> {
+
+    private static final int CHUNK_SHIFT = 4;
+    private static final double CHUNK_SIZE = 16.0;
+
+    private final Map<UUID, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<Long, List<Entry<T>>>> cells = new ConcurrentHashMap<>();
+
+    /**
+     * Indexed value with its position
+     */
+    public record Entry<T>(UUID id, UUID worldId, long chunkKey, double x, double y, double z, T value) {
+
+        /**
+         * Squared distance to a point
+         */
+        public double distanceSquared(final double px, final double py, final double pz) {
+            final double dx = this.x - px;
+            final double dy = this.y - py;
+            final double dz = this.z - pz;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    /**
+     * Pack chunk coordinates into a single key (same layout as Paper's Chunk#getChunkKey)
+     *
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     * @return Packed key
+     */
+    public static long chunkKey(final int chunkX, final int chunkZ) {
+        return ((long) chunkZ << 32) | (chunkX & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Insert or move a value
+     *
+     * @param id      Unique id of the value
+     * @param worldId World UUID
+     * @param x       X coordinate
+     * @param y       Y coordinate
+     * @param z       Z coordinate
+     * @param value   Value to index
+     */
+    public synchronized void put(final UUID id, final UUID worldId, final double x, final double y, final double z, final T value) {
+        this.remove(id);
+
+        final long key = chunkKey((int) Math.floor(x) >> CHUNK_SHIFT, (int) Math.floor(z) >> CHUNK_SHIFT);
+        final Entry<T> entry = new Entry<>(id, worldId, key, x, y, z, value);
+        this.cells.computeIfAbsent(worldId, world -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, chunk -> new CopyOnWriteArrayList<>())
+                .add(entry);
+        this.entries.put(id, entry);
+    }
+
+    /**
+     * Remove a value
+     *
+     * @param id Unique id of the value
+     */
+    public synchronized void remove(final UUID id) {
+        final Entry<T> previous = this.entries.remove(id);
+        if (previous == null) {
+            return;
+        }
+
+        final Map<Long, List<Entry<T>>> worldCells = this.cells.get(previous.worldId());
+        if (worldCells == null) {
+            return;
+        }
+
+        final List<Entry<T>> cell = worldCells.get(previous.chunkKey());
+        if (cell != null) {
+            cell.remove(previous);
+            if (cell.isEmpty()) {
+                worldCells.remove(previous.chunkKey());
+            }
+        }
+    }
+
+    /**
+     * Find all values within a radius
+     *
+     * @param worldId World UUID
+     * @param x       Center X
+     * @param y       Center Y
+     * @param z       Center Z
+     * @param radius  Search radius in blocks
+     * @return Values within the radius (unordered)
+     */
+    public List<T> queryRange(final UUID worldId, final double x, final double y, final double z, final double radius) {
+        final List<T> results = new ArrayList<>();
+        final Map<Long, List<Entry<T>>> worldCells = this.cells.get(worldId);
+        if (worldCells == null) {
+            return results;
+        }
+
+        final double radiusSquared = radius * radius;
+        final int minChunkX = (int) Math.floor(x - radius) >> CHUNK_SHIFT;
+        final int maxChunkX = (int) Math.floor(x + radius) >> CHUNK_SHIFT;
+        final int minChunkZ = (int) Math.floor(z - radius) >> CHUNK_SHIFT;
+        final int maxChunkZ = (int) Math.floor(z + radius) >> CHUNK_SHIFT;
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final List<Entry<T>> cell = worldCells.get(chunkKey(chunkX, chunkZ));
+                if (cell == null) {
+                    continue;
+                }
+
+                for (final Entry<T> entry : cell) {
+                    if (entry.distanceSquared(x, y, z) <= radiusSquared) {
+                        results.add(entry.value());
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Find the nearest value within a radius, searching outward ring by ring of chunks. When the world has
+     * fewer occupied chunks than the search square holds, those chunks are scanned directly instead.
+     *
+     * @param worldId   World UUID
+     * @param x         Center X
+     * @param y         Center Y
+     * @param z         Center Z
+     * @param maxRadius Maximum search radius in blocks
+     * @return Nearest value, or null if none is within the radius
+     */
+    public T nearest(final UUID worldId, final double x, final double y, final double z, final double maxRadius) {
+        final Map<Long, List<Entry<T>>> worldCells = this.cells.get(worldId);
+        if (worldCells == null || worldCells.isEmpty()) {
+            return null;
+        }
+
+        final int maxRing = (int) Math.ceil(maxRadius / CHUNK_SIZE);
+        final long side = 2L * maxRing + 1;
+        final Search<T> search = new Search<>(x, y, z, maxRadius * maxRadius);
+
+        if (worldCells.size() < side * side) {
+            for (final List<Entry<T>> cell : worldCells.values()) {
+                search.visit(cell);
+            }
+            return search.result();
+        }
+
+        final int centerX = (int) Math.floor(x) >> CHUNK_SHIFT;
+        final int centerZ = (int) Math.floor(z) >> CHUNK_SHIFT;
+        search.visit(worldCells.get(chunkKey(centerX, centerZ)));
+
+        for (int ring = 1; ring <= maxRing; ring++) {
+            // Everything in this ring or beyond is at least (ring - 1) chunks away
+            final double ringDistance = (ring - 1) * CHUNK_SIZE;
+            if (search.best != null && ringDistance * ringDistance > search.bestDistanceSquared) {
+                break;
+            }
+
+            // Only the ring's four edges; inner cells were visited earlier
+            for (int chunkX = centerX - ring; chunkX <= centerX + ring; chunkX++) {
+                search.visit(worldCells.get(chunkKey(chunkX, centerZ - ring)));
+                search.visit(worldCells.get(chunkKey(chunkX, centerZ + ring)));
+            }
+            for (int chunkZ = centerZ - ring + 1; chunkZ <= centerZ + ring - 1; chunkZ++) {
+                search.visit(worldCells.get(chunkKey(centerX - ring, chunkZ)));
+                search.visit(worldCells.get(chunkKey(centerX + ring, chunkZ)));
+            }
+        }
+
+        return search.result();
+    }
+
+    /**
+     * Get all values indexed in a world
+     *
+     * @param worldId World UUID
+     * @return Values in the world
+     */
+    public List<T> inWorld(final UUID worldId) {
+        final List<T> results = new ArrayList<>();
+        final Map<Long, List<Entry<T>>> worldCells = this.cells.get(worldId);
+        if (worldCells == null) {
+            return results;
+        }
+
+        for (final List<Entry<T>> cell : worldCells.values()) {
+            for (final Entry<T> entry : cell) {
+                results.add(entry.value());
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Get the number of indexed values
+     *
+     * @return Size
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Closest entry seen so far by {@link #nearest}
+     */
+    private static final class Search<T> {
+
+        private final double x;
+        private final double y;
+        private final double z;
+
+        private Entry<T> best;
+        private double bestDistanceSquared;
+
+        private Search(final double x, final double y, final double z, final double maxDistanceSquared) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.bestDistanceSquared = maxDistanceSquared;
+        }
+
+        private void visit(final List<Entry<T>> cell) {
+            if (cell == null) {
+                return;
+            }
+
+            for (final Entry<T> entry : cell) {
+                final double distanceSquared = entry.distanceSquared(this.x, this.y, this.z);
+                if (distanceSquared <= this.bestDistanceSquared) {
+                    this.best = entry;
+                    this.bestDistanceSquared = distanceSquared;
+                }
+            }
+        }
+
+        private T result() {
+            return this.best != null ? this.best.value() : null;
+        }
+    }
+}
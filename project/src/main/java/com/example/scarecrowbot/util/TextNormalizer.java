@@ -0,0 +1,121 @@
+package com.example.scarecrowbot.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.text.Normalizer;
+
+/**
+ * Normalization for keyword matching.
+ * <p>
+ * {@link #normalize(String)} applies NFKC (so full-width "ｈｉ" becomes "hi"), locale-independent
+ * lowercasing, drops whitespace and punctuation ("안 녕", "h.i") and collapses runs of the same
+ * character ("hiiii", "ㅋㅋㅋ"). After the NFKC step it is a single pass over the code points into one
+ * pre-sized builder; NFKC itself is skipped when the text is already normalized, which is the
+ * common case for chat.
+ * <p>
+ * {@link #chosung(String)} maps Hangul syllables to their initial consonants ("안녕" to "ㅇㄴ"), so a
+ * keyword can also match players typing only initials. NFKC turns the compatibility jamo players type
+ * (U+3131..) into conjoining jamo (U+1100..), so initials are produced in that form too.
+ */
+@UtilityClass
+public class TextNormalizer {
+
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSEONG_TIMES_JONGSEONG = 21 * 28;
+
+    /**
+     * First conjoining initial consonant (choseong), the 19 initials follow in syllable order
+     */
+    private static final int CHOSEONG_BASE = 0x1100;
+
+    /**
+     * Normalize text for matching
+     *
+     * @param text Raw text
+     * @return Normalized text
+     */
+    public static String normalize(final String text) {
+        final String composed = Normalizer.isNormalized(text, Normalizer.Form.NFKC)
+                ? text
+                : Normalizer.normalize(text, Normalizer.Form.NFKC);
+
+        final StringBuilder builder = new StringBuilder(composed.length());
+        int previous = -1;
+
+        for (int index = 0; index < composed.length(); ) {
+            final int codePoint = composed.codePointAt(index);
+            index += Character.charCount(codePoint);
+
+            if (isIgnored(codePoint)) {
+                continue;
+            }
+
+            // Character.toLowerCase(int) does not depend on the default locale
+            final int lower = Character.toLowerCase(codePoint);
+            if (lower == previous) {
+                continue; // Collapse repeats
+            }
+
+            builder.appendCodePoint(lower);
+            previous = lower;
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Replace Hangul syllables by their initial consonant, collapsing repeats like {@link #normalize(String)}
+     *
+     * @param normalized Normalized text
+     * @return Initial-consonant form
+     */
+    public static String chosung(final String normalized) {
+        final StringBuilder builder = new StringBuilder(normalized.length());
+        char previous = 0;
+
+        for (int index = 0; index < normalized.length(); index++) {
+            char character = normalized.charAt(index);
+            if (character >= HANGUL_BASE && character <= HANGUL_LAST) {
+                character = (char) (CHOSEONG_BASE + (character - HANGUL_BASE) / JUNGSEONG_TIMES_JONGSEONG);
+            }
+
+            if (character != previous) {
+                builder.append(character);
+                previous = character;
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Check if text contains Hangul syllables
+     *
+     * @param text Text to check
+     * @return True if at least one Hangul syllable is present
+     */
+    public static boolean hasHangulSyllables(final String text) {
+        for (int index = 0; index < text.length(); index++) {
+            final char character = text.charAt(index);
+            if (character >= HANGUL_BASE && character <= HANGUL_LAST) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isIgnored(final int codePoint) {
+        if (Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint)) {
+            return true;
+        }
+
+        return switch (Character.getType(codePoint)) {
+            case Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION, Character.START_PUNCTUATION,
+                 Character.END_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION, Character.FINAL_QUOTE_PUNCTUATION,
+                 Character.OTHER_PUNCTUATION, Character.CONTROL, Character.FORMAT -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.scarecrowbot.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bounded, sorted top-K list for scores that only ever grow (totals, personal bests).
+ * <p>
+ * Because a score never decreases, an update can only move its key up: it is either already in the list
+ * and bubbles up, or it enters the list by replacing the last entry. Each offer is O(K) with no
+ * allocation, and reading the list never sorts. Not thread-safe; callers synchronize.
+ */
+public class TopK {
+
+    /**
+     * Leaderboard row
+     *
+     * @param id    Player UUID
+     * @param name  Player name at the time of the update
+     * @param score Score
+     */
+    public record Entry(UUID id, String name, double score) {
+    }
+
+    private final UUID[] ids;
+    private final String[] names;
+    private final double[] scores;
+    private int size;
+
+    public TopK(final int capacity) {
+        this.ids = new UUID[Math.max(1, capacity)];
+        this.names = new String[this.ids.length];
+        this.scores = new double[this.ids.length];
+    }
+
+    /**
+     * Offer a new (never lower) score for a key
+     *
+     * @param id    Key
+     * @param name  Display name
+     * @param score New score
+     */
+    public void offer(final UUID id, final String name, final double score) {
+        int index = this.indexOf(id);
+
+        if (index < 0) {
+            if (this.size < this.ids.length) {
+                index = this.size++;
+            } else if (score > this.scores[this.size - 1]) {
+                index = this.size - 1; // Replaces the lowest entry
+            } else {
+                return;
+            }
+        }
+
+        // Bubble up while the entry above scores lower
+        while (index > 0 && this.scores[index - 1] < score) {
+            this.ids[index] = this.ids[index - 1];
+            this.names[index] = this.names[index - 1];
+            this.scores[index] = this.scores[index - 1];
+            index--;
+        }
+
+        this.ids[index] = id;
+        this.names[index] = name;
+        this.scores[index] = score;
+    }
+
+    /**
+     * Remove every entry
+     */
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.ids[i] = null;
+            this.names[i] = null;
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Get the entries, highest score first
+     *
+     * @return Copy of the entries
+     */
+    public List<Entry> entries() {
+        final List<Entry> entries = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            entries.add(new Entry(this.ids[i], this.names[i], this.scores[i]));
+        }
+
+        return entries;
+    }
+
+    private int indexOf(final UUID id) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.ids[i].equals(id)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}